@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.wicket.markup.repeater.data.IDataProvider;
+import org.apache.wicket.markup.repeater.data.ListDataProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.googlecode.wicket.kendo.ui.datatable.column.IExportableColumn;
+import com.googlecode.wicket.kendo.ui.datatable.column.PropertyColumn;
+import com.googlecode.wicket.kendo.ui.datatable.export.CSVDataExporter;
+
+/**
+ * Benchmarks the {@link CSVDataExporter}, against an in-memory {@link IDataProvider}
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CSVDataExporterBenchmark
+{
+	/**
+	 * Benchmark state
+	 */
+	public static class ExporterState extends WicketState
+	{
+		@Param({ "1000", "10000" })
+		public int rows;
+
+		private IDataProvider<Product> provider;
+		private List<IExportableColumn> columns;
+		private CSVDataExporter exporter;
+		private ByteArrayOutputStream output;
+
+		@Override
+		protected void init()
+		{
+			this.provider = new ListDataProvider<Product>(Product.newList(this.rows));
+			this.columns = Arrays.<IExportableColumn> asList( // lf
+					new PropertyColumn("ID", "id"), // lf
+					new PropertyColumn("Name", "name"), // lf
+					new PropertyColumn("Description", "description"), // lf
+					new PropertyColumn("Price", "price"), // lf
+					new PropertyColumn("Date", "created"));
+
+			this.exporter = new CSVDataExporter();
+			this.output = new ByteArrayOutputStream(this.rows * 128);
+		}
+	}
+
+	@Benchmark
+	public int export(ExporterState state) throws IOException
+	{
+		state.output.reset();
+		state.exporter.exportData(state.provider, state.columns, state.output);
+
+		return state.output.size();
+	}
+}
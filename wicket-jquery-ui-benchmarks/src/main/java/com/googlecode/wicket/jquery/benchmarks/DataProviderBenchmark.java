@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.benchmarks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.wicket.markup.repeater.data.IDataProvider;
+import org.apache.wicket.markup.repeater.data.ListDataProvider;
+import org.apache.wicket.model.IModel;
+import org.apache.wicket.model.Model;
+import org.apache.wicket.request.IRequestHandler;
+import org.apache.wicket.request.IRequestParameters;
+import org.apache.wicket.request.Response;
+import org.apache.wicket.request.cycle.RequestCycle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.googlecode.wicket.jquery.core.renderer.ITextRenderer;
+import com.googlecode.wicket.jquery.core.renderer.TextRenderer;
+import com.googlecode.wicket.kendo.ui.datatable.column.IColumn;
+import com.googlecode.wicket.kendo.ui.datatable.column.PropertyColumn;
+
+/**
+ * Benchmarks the rows generation of the Kendo UI {@code DataProviderBehavior}{@code s} (datatable and repeater), against an in-memory {@link IDataProvider}<br>
+ * The {@code *Handler} benchmarks go through the behavior's request handler, so requests above {@code getMaxRowCount()} (ie: 5000 rows) measure the streamed response
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataProviderBenchmark
+{
+	/**
+	 * Benchmark state
+	 */
+	public static class DataProviderState extends WicketState
+	{
+		@Param({ "20", "200", "1000", "5000" })
+		public int rows;
+
+		private final NullWebResponse response = new NullWebResponse();
+		private IRequestParameters parameters;
+		private DataTableBehavior datatable;
+		private RepeaterBehavior repeater;
+
+		@Override
+		protected void init()
+		{
+			final IDataProvider<Product> provider = new ListDataProvider<Product>(Product.newList(10000));
+			final List<IColumn> columns = Arrays.<IColumn> asList( // lf
+					new PropertyColumn("ID", "id"), // lf
+					new PropertyColumn("Name", "name"), // lf
+					new PropertyColumn("Description", "description"), // lf
+					new PropertyColumn("Price", "price"), // lf
+					new PropertyColumn("Date", "created"));
+
+			this.parameters = newParameters("skip=100&take=" + this.rows);
+			this.datatable = new DataTableBehavior(Model.ofList(columns), provider);
+			this.repeater = new RepeaterBehavior(provider, new TextRenderer<Product>("name"));
+		}
+
+		/**
+		 * Responds the {@link IRequestHandler} to a {@link NullWebResponse}
+		 *
+		 * @param handler the {@link IRequestHandler}
+		 * @return the number of bytes written
+		 */
+		long respond(IRequestHandler handler)
+		{
+			final RequestCycle requestCycle = RequestCycle.get();
+			final Response original = requestCycle.setResponse(this.response);
+			this.response.reset();
+
+			try
+			{
+				handler.respond(requestCycle);
+			}
+			finally
+			{
+				handler.detach(requestCycle);
+				requestCycle.setResponse(original);
+			}
+
+			return this.response.getCount();
+		}
+	}
+
+	@Benchmark
+	public String datatable(DataProviderState state)
+	{
+		return state.datatable.getResponse(state.parameters);
+	}
+
+	@Benchmark
+	public String repeater(DataProviderState state)
+	{
+		return state.repeater.getResponse(state.parameters);
+	}
+
+	@Benchmark
+	public long datatableHandler(DataProviderState state)
+	{
+		return state.respond(state.datatable.newRequestHandler(state.parameters));
+	}
+
+	@Benchmark
+	public long repeaterHandler(DataProviderState state)
+	{
+		return state.respond(state.repeater.newRequestHandler(state.parameters));
+	}
+
+	// Classes //
+
+	/**
+	 * Exposes the datatable response
+	 */
+	static class DataTableBehavior extends com.googlecode.wicket.kendo.ui.datatable.DataProviderBehavior<Product>
+	{
+		private static final long serialVersionUID = 1L;
+
+		public DataTableBehavior(IModel<List<IColumn>> columns, IDataProvider<Product> provider)
+		{
+			super(columns, provider);
+		}
+
+		@Override
+		public String getResponse(IRequestParameters parameters)
+		{
+			return super.getResponse(parameters);
+		}
+
+		@Override
+		public IRequestHandler newRequestHandler(IRequestParameters parameters)
+		{
+			return super.newRequestHandler(parameters);
+		}
+	}
+
+	/**
+	 * Exposes the repeater response
+	 */
+	static class RepeaterBehavior extends com.googlecode.wicket.kendo.ui.repeater.DataProviderBehavior<Product>
+	{
+		private static final long serialVersionUID = 1L;
+
+		public RepeaterBehavior(IDataProvider<Product> provider, ITextRenderer<? super Product> renderer)
+		{
+			super(provider, renderer);
+		}
+
+		@Override
+		public String getResponse(IRequestParameters parameters)
+		{
+			return super.getResponse(parameters);
+		}
+
+		@Override
+		public IRequestHandler newRequestHandler(IRequestParameters parameters)
+		{
+			return super.newRequestHandler(parameters);
+		}
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.benchmarks;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.wicket.request.IRequestParameters;
+import org.apache.wicket.util.lang.Generics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.googlecode.wicket.jquery.ui.calendar.CalendarEvent;
+import com.googlecode.wicket.jquery.ui.calendar.CalendarModel;
+import com.googlecode.wicket.jquery.ui.calendar.CalendarModelBehavior;
+import com.googlecode.wicket.kendo.ui.scheduler.SchedulerConverter;
+import com.googlecode.wicket.kendo.ui.scheduler.SchedulerEvent;
+import com.googlecode.wicket.kendo.ui.scheduler.SchedulerModel;
+import com.googlecode.wicket.kendo.ui.scheduler.SchedulerModelBehavior;
+
+/**
+ * Benchmarks the event feeds of the {@link CalendarModelBehavior} and the {@link SchedulerModelBehavior}, against in-memory models
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventFeedBenchmark
+{
+	private static final LocalDateTime ORIGIN = LocalDateTime.of(2020, 1, 1, 8, 0);
+
+	/**
+	 * Benchmark state
+	 */
+	public static class EventFeedState extends WicketState
+	{
+		@Param({ "50", "500" })
+		public int events;
+
+		private CalendarBehavior calendar;
+		private IRequestParameters calendarParameters;
+
+		private SchedulerBehavior scheduler;
+		private IRequestParameters schedulerParameters;
+
+		@Override
+		protected void init()
+		{
+			final List<CalendarEvent> calendarEvents = Generics.newArrayList(this.events);
+			final List<SchedulerEvent> schedulerEvents = Generics.newArrayList(this.events);
+
+			for (int i = 0; i < this.events; i++)
+			{
+				final LocalDateTime start = ORIGIN.plusHours(i);
+
+				calendarEvents.add(new CalendarEvent(String.valueOf(i), "Event #" + i, start, start.plusMinutes(30)));
+				schedulerEvents.add(new SchedulerEvent(i, "Event #" + i, start.atZone(ZoneOffset.UTC), start.plusMinutes(30).atZone(ZoneOffset.UTC)));
+			}
+
+			this.calendar = new CalendarBehavior(new CalendarModel() {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected List<? extends CalendarEvent> load()
+				{
+					return calendarEvents;
+				}
+			});
+
+			this.scheduler = new SchedulerBehavior(new SchedulerModel() {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				public List<SchedulerEvent> load(ZonedDateTime start, ZonedDateTime until)
+				{
+					return schedulerEvents;
+				}
+			});
+
+			final long start = ORIGIN.toInstant(ZoneOffset.UTC).toEpochMilli();
+			final long end = ORIGIN.plusYears(1).toInstant(ZoneOffset.UTC).toEpochMilli();
+
+			this.calendarParameters = newParameters(String.format("start=%s&end=%s", ORIGIN.toLocalDate(), ORIGIN.plusYears(1).toLocalDate()));
+			this.schedulerParameters = newParameters(String.format("start=%d&end=%d", start, end));
+		}
+	}
+
+	@Benchmark
+	public String calendar(EventFeedState state)
+	{
+		try
+		{
+			return state.calendar.getResponse(state.calendarParameters);
+		}
+		finally
+		{
+			state.calendar.model.detach(); // so load() is called at each invocation, as for each request
+		}
+	}
+
+	@Benchmark
+	public String scheduler(EventFeedState state)
+	{
+		try
+		{
+			return state.scheduler.getResponse(state.schedulerParameters);
+		}
+		finally
+		{
+			state.scheduler.model.detach();
+		}
+	}
+
+	// Classes //
+
+	/**
+	 * Exposes the calendar response
+	 */
+	static class CalendarBehavior extends CalendarModelBehavior
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final CalendarModel model;
+
+		public CalendarBehavior(CalendarModel model)
+		{
+			super(model);
+
+			this.model = model;
+		}
+
+		@Override
+		public String getResponse(IRequestParameters parameters)
+		{
+			return super.getResponse(parameters);
+		}
+	}
+
+	/**
+	 * Exposes the scheduler response
+	 */
+	static class SchedulerBehavior extends SchedulerModelBehavior
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final SchedulerModel model;
+
+		public SchedulerBehavior(SchedulerModel model)
+		{
+			super(model, new SchedulerConverter(ZoneOffset.UTC));
+
+			this.model = model;
+		}
+
+		@Override
+		public String getResponse(IRequestParameters parameters)
+		{
+			return super.getResponse(parameters);
+		}
+	}
+}
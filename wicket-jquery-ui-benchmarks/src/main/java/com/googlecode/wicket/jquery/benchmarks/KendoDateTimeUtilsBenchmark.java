@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.benchmarks;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.googlecode.wicket.kendo.ui.utils.KendoDateTimeUtils;
+
+/**
+ * Benchmarks the {@link KendoDateTimeUtils} conversions, used by date/time pickers for each rendering and each submitted value
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KendoDateTimeUtilsBenchmark
+{
+	/**
+	 * Benchmark state
+	 */
+	public static class DateTimeState extends WicketState
+	{
+		@Param({ "MM/dd/yyyy", "dd.MM.yyyy HH:mm", "EEE, d MMM yyyy hh:mm a" })
+		public String pattern;
+
+		private final Date date = new Date(1577865600000L);
+		private final LocalDate localDate = LocalDate.of(2020, 1, 1);
+		private final LocalDateTime localDateTime = LocalDateTime.of(2020, 1, 1, 8, 0);
+
+		@Override
+		protected void init()
+		{
+			// noop
+		}
+	}
+
+	@Benchmark
+	public String toPattern(DateTimeState state)
+	{
+		return KendoDateTimeUtils.toPattern(state.pattern);
+	}
+
+	@Benchmark
+	public String convert()
+	{
+		return KendoDateTimeUtils.convert("01/01/2020 08:00 p. m.");
+	}
+
+	@Benchmark
+	public String toStringDate(DateTimeState state)
+	{
+		return KendoDateTimeUtils.toString(state.date);
+	}
+
+	@Benchmark
+	public String toStringLocalDate(DateTimeState state)
+	{
+		return KendoDateTimeUtils.toString(state.localDate);
+	}
+
+	@Benchmark
+	public String toStringLocalDateTime(DateTimeState state)
+	{
+		return KendoDateTimeUtils.toString(state.localDateTime);
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import javax.servlet.http.Cookie;
+
+import org.apache.wicket.request.http.WebResponse;
+
+/**
+ * Provides a {@link WebResponse} that discards what is written, only counting the bytes<br>
+ * This allows to benchmark request handlers without the cost (and the growth) of a buffered response.
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+class NullWebResponse extends WebResponse
+{
+	private long count = 0L;
+
+	/**
+	 * Gets the number of bytes written since the last {@link #reset()}
+	 *
+	 * @return the number of bytes
+	 */
+	public long getCount()
+	{
+		return this.count;
+	}
+
+	@Override
+	public void reset()
+	{
+		this.count = 0L;
+	}
+
+	@Override
+	public void write(CharSequence sequence)
+	{
+		this.count += sequence.toString().getBytes(StandardCharsets.UTF_8).length;
+	}
+
+	@Override
+	public void write(byte[] array)
+	{
+		this.count += array.length;
+	}
+
+	@Override
+	public void write(byte[] array, int offset, int length)
+	{
+		this.count += length;
+	}
+
+	@Override
+	public void addCookie(Cookie cookie)
+	{
+		// noop
+	}
+
+	@Override
+	public void clearCookie(Cookie cookie)
+	{
+		// noop
+	}
+
+	@Override
+	public boolean isHeaderSupported()
+	{
+		return true;
+	}
+
+	@Override
+	public void setHeader(String name, String value)
+	{
+		// noop
+	}
+
+	@Override
+	public void addHeader(String name, String value)
+	{
+		// noop
+	}
+
+	@Override
+	public void setDateHeader(String name, Instant date)
+	{
+		// noop
+	}
+
+	@Override
+	public void setContentLength(long length)
+	{
+		// noop
+	}
+
+	@Override
+	public void setContentType(String mimeType)
+	{
+		// noop
+	}
+
+	@Override
+	public void setStatus(int sc)
+	{
+		// noop
+	}
+
+	@Override
+	public void sendError(int sc, String msg)
+	{
+		// noop
+	}
+
+	@Override
+	public String encodeRedirectURL(CharSequence url)
+	{
+		return url.toString();
+	}
+
+	@Override
+	public void sendRedirect(String url)
+	{
+		// noop
+	}
+
+	@Override
+	public boolean isRedirect()
+	{
+		return false;
+	}
+
+	@Override
+	public void flush()
+	{
+		// noop
+	}
+
+	@Override
+	public String encodeURL(CharSequence url)
+	{
+		return url.toString();
+	}
+
+	@Override
+	public Object getContainerResponse()
+	{
+		return null;
+	}
+}
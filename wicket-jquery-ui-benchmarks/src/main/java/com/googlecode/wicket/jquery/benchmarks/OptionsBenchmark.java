@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.googlecode.wicket.jquery.core.Options;
+
+/**
+ * Benchmarks {@link Options#toString()}, which is called for every widget rendering
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptionsBenchmark
+{
+	/**
+	 * Benchmark state
+	 */
+	public static class OptionsState extends WicketState
+	{
+		@Param({ "5", "25" })
+		public int size;
+
+		private Options options;
+
+		@Override
+		protected void init()
+		{
+			this.options = new Options();
+
+			for (int i = 0; i < this.size; i++)
+			{
+				switch (i % 5)
+				{
+				case 0:
+					this.options.set("string" + i, Options.asString("value " + i));
+					break;
+				case 1:
+					this.options.set("number" + i, i);
+					break;
+				case 2:
+					this.options.set("boolean" + i, i % 2 == 0);
+					break;
+				case 3:
+					this.options.set("array" + i, Arrays.asList("a", "b", "c"));
+					break;
+				default:
+					this.options.set("function" + i, "function(e) { return e.value; }");
+					break;
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public String toString(OptionsState state)
+	{
+		return state.options.toString();
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.benchmarks;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.wicket.util.lang.Generics;
+
+/**
+ * Provides the in-memory bean used by benchmarks
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+public class Product implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	private static final LocalDateTime ORIGIN = LocalDateTime.of(2020, 1, 1, 8, 0);
+
+	/**
+	 * Gets a new list of {@link Product}{@code s}
+	 *
+	 * @param count the number of products
+	 * @return a new {@code List}
+	 */
+	public static List<Product> newList(int count)
+	{
+		List<Product> list = Generics.newArrayList(count);
+
+		for (int i = 0; i < count; i++)
+		{
+			list.add(new Product(i, "Product #" + i, "Description of the \"product\" #" + i, 10.0 + (i % 100) * 0.25, ORIGIN.plusHours(i)));
+		}
+
+		return list;
+	}
+
+	private final int id;
+	private final String name;
+	private final String description;
+	private final double price;
+	private final LocalDateTime date;
+
+	public Product(int id, String name, String description, double price, LocalDateTime date)
+	{
+		this.id = id;
+		this.name = name;
+		this.description = description;
+		this.price = price;
+		this.date = date;
+	}
+
+	public int getId()
+	{
+		return this.id;
+	}
+
+	public String getName()
+	{
+		return this.name;
+	}
+
+	public String getDescription()
+	{
+		return this.description;
+	}
+
+	public double getPrice()
+	{
+		return this.price;
+	}
+
+	public LocalDateTime getDate()
+	{
+		return this.date;
+	}
+
+	public Date getCreated()
+	{
+		return java.sql.Timestamp.valueOf(this.date);
+	}
+}
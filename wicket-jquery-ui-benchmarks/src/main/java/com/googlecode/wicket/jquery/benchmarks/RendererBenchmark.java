@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.googlecode.wicket.jquery.core.renderer.JsonRenderer;
+import com.googlecode.wicket.jquery.core.renderer.TextRenderer;
+
+/**
+ * Benchmarks {@link JsonRenderer} and {@link TextRenderer}, used by autocompletes, dropdowns and list views
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RendererBenchmark
+{
+	/**
+	 * Benchmark state
+	 */
+	public static class RendererState extends WicketState
+	{
+		@Param({ "100", "1000" })
+		public int rows;
+
+		private List<Product> products;
+		private TextRenderer<Product> textRenderer;
+		private JsonRenderer<Product> jsonRenderer;
+
+		@Override
+		protected void init()
+		{
+			this.products = Product.newList(this.rows);
+			this.textRenderer = new TextRenderer<Product>("name");
+			this.jsonRenderer = new JsonRenderer<Product>("name");
+		}
+	}
+
+	@Benchmark
+	public void text(RendererState state, Blackhole blackhole)
+	{
+		for (Product product : state.products)
+		{
+			blackhole.consume(state.textRenderer.getText(product));
+		}
+	}
+
+	@Benchmark
+	public void match(RendererState state, Blackhole blackhole)
+	{
+		for (Product product : state.products)
+		{
+			blackhole.consume(state.textRenderer.match(product, "#1", false));
+		}
+	}
+
+	@Benchmark
+	public void json(RendererState state, Blackhole blackhole)
+	{
+		for (Product product : state.products)
+		{
+			blackhole.consume(state.jsonRenderer.render(product));
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.benchmarks;
+
+import org.apache.wicket.mock.MockApplication;
+import org.apache.wicket.request.IRequestParameters;
+import org.apache.wicket.request.Url;
+import org.apache.wicket.request.parameter.UrlRequestParametersAdapter;
+import org.apache.wicket.util.tester.BaseWicketTester;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Base benchmark state, providing a thread-bound mock {@code Application}, {@code Session} and {@code RequestCycle}<br>
+ * The state is created by - and bound to - the benchmark thread, so {@code Application.get()} and {@code Session.get()} are available from benchmark methods.
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+@State(Scope.Thread)
+public abstract class WicketState
+{
+	private BaseWicketTester tester;
+
+	/**
+	 * Creates the mock application and initializes the state
+	 */
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		this.tester = new BaseWicketTester(new MockApplication());
+
+		this.init();
+	}
+
+	/**
+	 * Destroys the mock application
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		this.tester.destroy();
+	}
+
+	/**
+	 * Initializes the state, once the mock application is available
+	 */
+	protected abstract void init();
+
+	/**
+	 * Gets {@link IRequestParameters} from a query string
+	 *
+	 * @param query the query string, ie: {@code skip=0&take=100}
+	 * @return the {@link IRequestParameters}
+	 */
+	protected static IRequestParameters newParameters(String query)
+	{
+		return new UrlRequestParametersAdapter(Url.parse("?" + query));
+	}
+}
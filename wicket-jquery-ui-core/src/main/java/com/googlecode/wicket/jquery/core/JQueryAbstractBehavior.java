@@ -117,6 +117,17 @@ public abstract class JQueryAbstractBehavior extends Behavior
 		}
 
 		// Adds the statement //
+		this.renderStatement(component, response);
+	}
+
+	/**
+	 * Renders the jQuery statement returned by {@link #$()}
+	 *
+	 * @param component the {@link Component}
+	 * @param response the {@link IHeaderResponse}
+	 */
+	protected void renderStatement(Component component, IHeaderResponse response)
+	{
 		String statement = this.$();
 
 		if (statement != null)
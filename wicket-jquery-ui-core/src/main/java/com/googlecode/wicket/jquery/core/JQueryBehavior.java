@@ -99,6 +99,25 @@ public class JQueryBehavior extends JQueryAbstractBehavior
 		}
 	}
 
+	/**
+	 * {@inheritDoc}<br>
+	 * If the component - or one of its parents - has a {@link JQueryInitAggregatorBehavior}, the statement is registered to the aggregated initialization script instead.
+	 */
+	@Override
+	protected void renderStatement(Component component, IHeaderResponse response)
+	{
+		final JQueryInitAggregatorBehavior aggregator = this.getAggregatorBehavior(component);
+
+		if (aggregator != null)
+		{
+			aggregator.render(this.selector, this.method, this.options.toString(), response);
+		}
+		else
+		{
+			super.renderStatement(component, response);
+		}
+	}
+
 	/**
 	 * Removes the element matching the current selector from the DOM.<br>
 	 * The {@code #detach} method is the same as {@code #remove}, except that {@code #detach} keeps all jQuery data associated with the removed elements.<br>
@@ -148,6 +167,29 @@ public class JQueryBehavior extends JQueryAbstractBehavior
 		this.selector = selector;
 	}
 
+	/**
+	 * Gets the {@link JQueryInitAggregatorBehavior} of the component, or of its nearest parent having one, if it aggregates this behavior
+	 *
+	 * @param component the {@link Component}
+	 * @return the {@link JQueryInitAggregatorBehavior} or {@code null} if the statement is not aggregated
+	 */
+	protected JQueryInitAggregatorBehavior getAggregatorBehavior(Component component)
+	{
+		for (Component c = component; c != null; c = c.getParent())
+		{
+			List<JQueryInitAggregatorBehavior> behaviors = c.getBehaviors(JQueryInitAggregatorBehavior.class);
+
+			if (!behaviors.isEmpty())
+			{
+				JQueryInitAggregatorBehavior aggregator = behaviors.get(0);
+
+				return aggregator.isAggregated(this) ? aggregator : null;
+			}
+		}
+
+		return null;
+	}
+
 	/**
 	 * Gets the jQuery method
 	 *
@@ -338,7 +380,7 @@ public class JQueryBehavior extends JQueryAbstractBehavior
 	 */
 	private static String $(String selector, String method, String options)
 	{
-		return String.format("jQuery('%s').%s(%s);", selector, method, options);
+		return "jQuery('" + selector + "')." + method + "(" + options + ");";
 	}
 
 	// Events //
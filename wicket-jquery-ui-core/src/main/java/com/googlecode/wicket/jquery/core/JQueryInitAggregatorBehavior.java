@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.wicket.Component;
+import org.apache.wicket.MetaDataKey;
+import org.apache.wicket.behavior.Behavior;
+import org.apache.wicket.markup.head.IHeaderResponse;
+import org.apache.wicket.markup.head.OnDomReadyHeaderItem;
+import org.apache.wicket.request.cycle.RequestCycle;
+import org.apache.wicket.util.lang.Generics;
+import org.apache.wicket.util.string.Strings;
+
+import com.github.openjson.JSONObject;
+
+/**
+ * Provides an opt-in aggregator for the initialization statements of the {@link JQueryBehavior}{@code s} bound to the component - or to its children - this behavior is added to<br>
+ * Instead of rendering one {@link OnDomReadyHeaderItem} per widget, aggregated behaviors register their selector, method and options to a single header item per render - being a
+ * full-page or an Ajax render. That item emits one script that initializes the widgets in one pass, grouped by jQuery method (ie: widget type), and that declares each distinct
+ * options object only once.<br>
+ * <br>
+ * <b>Example</b>
+ *
+ * <pre>
+ * page.add(new JQueryInitAggregatorBehavior());
+ * </pre>
+ *
+ * <b>Note:</b> behaviors that override {@link JQueryBehavior#$()} are not aggregated, because their statement is not a plain widget initialization. Widgets are initialized by
+ * method, in the order of their first appearance, and identical options objects are shared between the widgets of a render.
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+public class JQueryInitAggregatorBehavior extends Behavior
+{
+	private static final long serialVersionUID = 1L;
+
+	/** the header item of the current render */
+	private static final MetaDataKey<InitHeaderItem> KEY = new MetaDataKey<InitHeaderItem>() {
+
+		private static final long serialVersionUID = 1L;
+	};
+
+	/** indicates whether a {@link JQueryBehavior} class overrides {@link JQueryBehavior#$()} */
+	private static final ClassValue<Boolean> OVERRIDES = new ClassValue<Boolean>() {
+
+		@Override
+		protected Boolean computeValue(Class<?> type)
+		{
+			for (Class<?> c = type; c != JQueryBehavior.class && c != null; c = c.getSuperclass())
+			{
+				for (Method method : c.getDeclaredMethods())
+				{
+					if ("$".equals(method.getName()) && method.getParameterCount() == 0)
+					{
+						return true;
+					}
+				}
+			}
+
+			return false;
+		}
+	};
+
+	// Properties //
+
+	/**
+	 * Indicates whether the initialization statement of the supplied {@link JQueryBehavior} should be aggregated
+	 *
+	 * @param behavior the {@link JQueryBehavior}
+	 * @return {@code true} by default, except for behaviors having no selector, no method or overriding {@link JQueryBehavior#$()}
+	 */
+	protected boolean isAggregated(JQueryBehavior behavior)
+	{
+		return behavior.getSelector() != null && !Strings.isEmpty(behavior.getMethod()) && !OVERRIDES.get(behavior.getClass());
+	}
+
+	// Methods //
+
+	/**
+	 * Registers the widget initialization to the aggregated header item of the current render
+	 *
+	 * @param selector the html selector (ie: "#myId")
+	 * @param method the jQuery method
+	 * @param options the options
+	 * @param response the {@link IHeaderResponse}
+	 */
+	void render(String selector, String method, String options, IHeaderResponse response)
+	{
+		final InitHeaderItem item = getHeaderItem();
+		item.add(selector, method, options);
+
+		response.render(item);
+	}
+
+	/**
+	 * Registers a script that should run before the widget initializations of the current render (ie: a data-source declaration)
+	 *
+	 * @param script the script
+	 * @param response the {@link IHeaderResponse}
+	 */
+	public void renderScript(String script, IHeaderResponse response)
+	{
+		final InitHeaderItem item = getHeaderItem();
+		item.add(script);
+
+		response.render(item);
+	}
+
+	// Helpers //
+
+	/**
+	 * Gets the {@link InitHeaderItem} of the current render, a new one is created as soon as the previous one has been written
+	 *
+	 * @return the {@link InitHeaderItem}
+	 */
+	private static InitHeaderItem getHeaderItem()
+	{
+		final RequestCycle requestCycle = RequestCycle.get();
+		InitHeaderItem item = requestCycle.getMetaData(KEY);
+
+		if (item == null || item.isClosed())
+		{
+			item = new InitHeaderItem();
+			requestCycle.setMetaData(KEY, item);
+		}
+
+		return item;
+	}
+
+	// Classes //
+
+	/**
+	 * Provides the {@link OnDomReadyHeaderItem} holding the aggregated widget initializations<br>
+	 * The script is built when the item is written, that is when the header response is closed, so it covers all the widgets of the render.
+	 */
+	private static class InitHeaderItem extends OnDomReadyHeaderItem
+	{
+		private static final AtomicLong SEQUENCE = new AtomicLong();
+
+		/** the render token, which should differ from the item itself that is marked as rendered by the {@code ResourceAggregator} */
+		private final String token = "javascript-domready-init-" + SEQUENCE.incrementAndGet();
+
+		/** scripts to run before the initializations */
+		private final List<String> scripts = Generics.newArrayList();
+
+		/** distinct options, by index */
+		private final Map<String, Integer> options = new LinkedHashMap<>();
+
+		/** selector/option-index pairs, by method */
+		private final Map<String, StringBuilder> widgets = new LinkedHashMap<>();
+
+		/** the built script */
+		private CharSequence javaScript = null;
+
+		public InitHeaderItem()
+		{
+			super(null);
+		}
+
+		public boolean isClosed()
+		{
+			return this.javaScript != null;
+		}
+
+		public void add(String script)
+		{
+			this.scripts.add(script);
+		}
+
+		public void add(String selector, String method, String options)
+		{
+			Integer index = this.options.get(options);
+
+			if (index == null)
+			{
+				index = this.options.size();
+				this.options.put(options, index);
+			}
+
+			StringBuilder builder = this.widgets.get(method);
+
+			if (builder == null)
+			{
+				builder = new StringBuilder();
+				this.widgets.put(method, builder);
+			}
+			else
+			{
+				builder.append(',');
+			}
+
+			builder.append(JSONObject.quote(selector)).append(',').append(index);
+		}
+
+		@Override
+		public CharSequence getJavaScript()
+		{
+			if (this.javaScript == null)
+			{
+				this.javaScript = this.build();
+			}
+
+			return this.javaScript;
+		}
+
+		/**
+		 * Builds the script
+		 *
+		 * @return the script
+		 */
+		private CharSequence build()
+		{
+			final StringBuilder builder = new StringBuilder();
+
+			for (String script : this.scripts)
+			{
+				builder.append(script).append('\n');
+			}
+
+			if (!this.widgets.isEmpty())
+			{
+				builder.append("(function() {\n");
+				builder.append("var o = [").append(String.join(",\n", this.options.keySet())).append("];\n");
+				builder.append("var f = function(m, w) { for (var i = 0; i < w.length; i += 2) { jQuery(w[i])[m](o[w[i + 1]]); } };\n");
+
+				for (Map.Entry<String, StringBuilder> entry : this.widgets.entrySet())
+				{
+					builder.append("f(").append(JSONObject.quote(entry.getKey())).append(", [").append(entry.getValue()).append("]);\n");
+				}
+
+				builder.append("})();");
+			}
+
+			return builder;
+		}
+
+		@Override
+		public Iterable<?> getRenderTokens()
+		{
+			return Collections.singletonList(this.token);
+		}
+
+		@Override
+		public String toString()
+		{
+			return "InitHeaderItem(" + this.widgets.keySet() + ")";
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return System.identityHashCode(this);
+		}
+
+		@Override
+		public boolean equals(Object o)
+		{
+			return this == o;
+		}
+	}
+}
@@ -17,7 +17,9 @@
 package com.googlecode.wicket.jquery.core.ajax;
 
 import java.time.Duration;
+import java.util.List;
 
+import org.apache.wicket.Component;
 import org.apache.wicket.ajax.AbstractDefaultAjaxBehavior;
 import org.apache.wicket.ajax.AjaxRequestTarget;
 import org.apache.wicket.ajax.attributes.AjaxRequestAttributes;
@@ -27,9 +29,12 @@ import org.apache.wicket.behavior.Behavior;
 
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
 import com.googlecode.wicket.jquery.core.JQueryEvent;
+import com.googlecode.wicket.jquery.core.metrics.CallbackMetric;
+import com.googlecode.wicket.jquery.core.metrics.CallbackMetrics;
 
 /**
  * Base class for implementing AJAX GET calls to a {@link IJQueryAjaxAware} source, which is usually a {@link JQueryBehavior}<br>
+ * If a listener is registered to {@link CallbackMetrics}, the server-side duration of each event is reported (the size of the ajax response is not known at this stage)<br>
  * <br>
  * <b>Example</b>
  * 
@@ -171,7 +176,21 @@ public abstract class JQueryAjaxBehavior extends AbstractDefaultAjaxBehavior
 	{
 		if (this.source != null)
 		{
-			this.source.onAjax(target, this.newEvent());
+			final CallbackMetrics metrics = CallbackMetrics.get();
+
+			if (metrics.isEnabled())
+			{
+				final long start = System.nanoTime();
+				final JQueryEvent event = this.newEvent();
+
+				this.source.onAjax(target, event);
+
+				metrics.report(new CallbackMetric(CallbackMetrics.getPath(this.getComponent()), CallbackMetrics.getName(event.getClass()), System.nanoTime() - start, CallbackMetric.UNKNOWN, CallbackMetric.UNKNOWN));
+			}
+			else
+			{
+				this.source.onAjax(target, this.newEvent());
+			}
 		}
 	}
 
@@ -215,4 +234,54 @@ public abstract class JQueryAjaxBehavior extends AbstractDefaultAjaxBehavior
 	{
 		return super.getCallbackFunction(this.getCallbackParameters()).toString();
 	}
+
+	/**
+	 * Indicates whether the behavior can be queued by a {@link JQueryAjaxQueueBehavior}<br>
+	 * High-frequency widget events (ie: drag, drop, resize, spin) opt in, so other events are never delayed by a queue.
+	 *
+	 * @return {@code false} by default
+	 */
+	protected boolean isQueueable()
+	{
+		return false;
+	}
+
+	/**
+	 * Gets the body of the callback function<br>
+	 * If the behavior is queued by a {@link JQueryAjaxQueueBehavior}, the callback pushes the event to the client side queue instead of issuing a request.
+	 *
+	 * @see #getQueueBehavior()
+	 */
+	@Override
+	public CharSequence getCallbackFunctionBody(CallbackParameter... parameters)
+	{
+		final JQueryAjaxQueueBehavior queue = this.getQueueBehavior();
+
+		if (queue != null && queue.isQueued(this))
+		{
+			return queue.getPushStatement(this.getComponent(), this, parameters);
+		}
+
+		return super.getCallbackFunctionBody(parameters);
+	}
+
+	/**
+	 * Gets the {@link JQueryAjaxQueueBehavior} of the component, or of its nearest parent having one
+	 *
+	 * @return the {@link JQueryAjaxQueueBehavior} or {@code null} if none
+	 */
+	protected JQueryAjaxQueueBehavior getQueueBehavior()
+	{
+		for (Component component = this.getComponent(); component != null; component = component.getParent())
+		{
+			List<JQueryAjaxQueueBehavior> behaviors = component.getBehaviors(JQueryAjaxQueueBehavior.class);
+
+			if (!behaviors.isEmpty())
+			{
+				return behaviors.get(0);
+			}
+		}
+
+		return null;
+	}
 }
@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.ajax;
+
+import java.time.Duration;
+
+import org.apache.wicket.Component;
+import org.apache.wicket.Page;
+import org.apache.wicket.ajax.AbstractDefaultAjaxBehavior;
+import org.apache.wicket.ajax.AjaxRequestTarget;
+import org.apache.wicket.ajax.attributes.AjaxRequestAttributes;
+import org.apache.wicket.ajax.attributes.AjaxRequestAttributes.Method;
+import org.apache.wicket.ajax.attributes.CallbackParameter;
+import org.apache.wicket.behavior.Behavior;
+import org.apache.wicket.behavior.InvalidBehaviorIdException;
+import org.apache.wicket.markup.head.IHeaderResponse;
+import org.apache.wicket.markup.head.OnDomReadyHeaderItem;
+import org.apache.wicket.request.Request;
+import org.apache.wicket.request.Url;
+import org.apache.wicket.request.cycle.RequestCycle;
+import org.apache.wicket.util.lang.Args;
+
+import com.github.openjson.JSONArray;
+import com.github.openjson.JSONObject;
+import com.googlecode.wicket.jquery.core.resource.JavaScriptPackageHeaderItem;
+import com.googlecode.wicket.jquery.core.utils.RequestCycleUtils;
+
+/**
+ * Provides an opt-in client side queue for the {@link JQueryAjaxBehavior}{@code s} bound to the component - or to its children - this behavior is added to<br>
+ * Only queueable behaviors are queued (see {@link JQueryAjaxBehavior#isQueueable()}): by default, the draggable, droppable, resizable and spinner events.<br>
+ * Instead of issuing one request per event, queued behaviors push their callback parameters to the queue, which is flushed in one request either on an interval or at the end of a
+ * gesture (see {@link #getFlushEvents()}). On the server, each queued event is then delivered - in order, within the same request cycle - to its {@link IJQueryAjaxAware} source,
+ * as if it had been sent on its own.<br>
+ * <br>
+ * <b>Example</b>
+ *
+ * <pre>
+ * page.add(new JQueryAjaxQueueBehavior(Duration.ofMillis(500)));
+ * </pre>
+ *
+ * <b>Note:</b> {@link JQueryAjaxPostBehavior}{@code s} are never queued, because they post form components (ie: the slider 'change' event).
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+public class JQueryAjaxQueueBehavior extends AbstractDefaultAjaxBehavior
+{
+	private static final long serialVersionUID = 1L;
+
+	/** the flush interval */
+	private final Duration interval;
+
+	/**
+	 * Constructor<br>
+	 * The queue is only flushed at the end of a gesture
+	 */
+	public JQueryAjaxQueueBehavior()
+	{
+		this(Duration.ZERO);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param interval the max time events are kept in the queue, {@link Duration#ZERO} to only flush at the end of a gesture
+	 */
+	public JQueryAjaxQueueBehavior(Duration interval)
+	{
+		this.interval = Args.notNull(interval, "interval");
+	}
+
+	// Properties //
+
+	/**
+	 * Gets the name of the client side queue
+	 *
+	 * @return the markup id of the component by default
+	 */
+	protected String getQueueName()
+	{
+		return this.getComponent().getMarkupId();
+	}
+
+	/**
+	 * Gets the (space separated) document events that end a gesture and flush the queue
+	 *
+	 * @return "mouseup touchend keyup" by default, {@code null} to only flush on interval
+	 */
+	protected String getFlushEvents()
+	{
+		return "mouseup touchend keyup";
+	}
+
+	/**
+	 * Indicates whether the supplied {@link JQueryAjaxBehavior} should be queued
+	 *
+	 * @param behavior the {@link JQueryAjaxBehavior}
+	 * @return {@link JQueryAjaxBehavior#isQueueable()} by default, except for {@link JQueryAjaxPostBehavior}{@code s}
+	 */
+	protected boolean isQueued(JQueryAjaxBehavior behavior)
+	{
+		return behavior.isQueueable() && !(behavior instanceof JQueryAjaxPostBehavior);
+	}
+
+	// Methods //
+
+	@Override
+	public void renderHead(Component component, IHeaderResponse response)
+	{
+		super.renderHead(component, response);
+
+		response.render(new JavaScriptPackageHeaderItem(JQueryAjaxQueueBehavior.class)); // JQueryAjaxQueueBehavior.js
+
+		final String events = this.getFlushEvents();
+		final String callback = this.getCallbackFunction(CallbackParameter.explicit("events")).toString();
+
+		response.render(OnDomReadyHeaderItem.forScript(String.format("JQueryAjaxQueue.register('%s', %s, %d, %s);", this.getQueueName(), callback, this.interval.toMillis(), events != null ? "'" + events + "'" : "null")));
+	}
+
+	/**
+	 * Gets the javascript statement that pushes the event of the supplied {@link JQueryAjaxBehavior} to the queue
+	 *
+	 * @param component the {@link Component} the behavior is bound to
+	 * @param behavior the {@link JQueryAjaxBehavior}
+	 * @param parameters the {@link CallbackParameter}{@code s} of the behavior
+	 * @return the javascript statement
+	 */
+	CharSequence getPushStatement(Component component, JQueryAjaxBehavior behavior, CallbackParameter... parameters)
+	{
+		final StringBuilder builder = new StringBuilder("var params = [];\n");
+
+		for (CallbackParameter parameter : parameters)
+		{
+			if (parameter.getAjaxParameterName() != null)
+			{
+				builder.append("params.push({ name: ").append(JSONObject.quote(parameter.getAjaxParameterName()));
+				builder.append(", value: ").append(parameter.getAjaxParameterCode()).append(" });\n");
+			}
+		}
+
+		builder.append("JQueryAjaxQueue.push('").append(this.getQueueName()).append("', { ");
+		builder.append("c: ").append(JSONObject.quote(component.getPageRelativePath())).append(", ");
+		builder.append("b: ").append(component.getBehaviorId(behavior)).append(", ");
+		builder.append("p: params });\n");
+
+		return builder;
+	}
+
+	@Override
+	protected void updateAjaxAttributes(AjaxRequestAttributes attributes)
+	{
+		super.updateAjaxAttributes(attributes);
+
+		attributes.setMethod(Method.POST);
+	}
+
+	// Events //
+
+	@Override
+	protected void respond(AjaxRequestTarget target)
+	{
+		final JSONArray events = new JSONArray(RequestCycleUtils.getPostParameterValue("events").toString("[]"));
+		final RequestCycle requestCycle = RequestCycle.get();
+		final Request request = requestCycle.getRequest();
+		final Page page = this.getComponent().getPage();
+
+		try
+		{
+			for (int i = 0; i < events.length(); i++)
+			{
+				final JSONObject event = events.getJSONObject(i);
+				final JQueryAjaxBehavior behavior = findBehavior(page, event.optString("c"), event.optInt("b", -1));
+
+				if (behavior != null)
+				{
+					requestCycle.setRequest(request.cloneWithUrl(newUrl(request, event.optJSONArray("p"))));
+					behavior.respond(target);
+				}
+			}
+		}
+		finally
+		{
+			requestCycle.setRequest(request);
+		}
+	}
+
+	// Helpers //
+
+	/**
+	 * Finds the {@link JQueryAjaxBehavior} targeted by a queued event
+	 *
+	 * @param page the {@link Page}
+	 * @param path the page relative path of the component
+	 * @param id the behavior id
+	 * @return the {@link JQueryAjaxBehavior} or {@code null} if not found or if it cannot be called
+	 */
+	private static JQueryAjaxBehavior findBehavior(Page page, String path, int id)
+	{
+		final Component component = page.get(path);
+
+		if (component != null && component.canCallListener())
+		{
+			try
+			{
+				Behavior behavior = component.getBehaviorById(id);
+
+				if (behavior instanceof JQueryAjaxBehavior && behavior.canCallListener(component))
+				{
+					return (JQueryAjaxBehavior) behavior;
+				}
+			}
+			catch (InvalidBehaviorIdException e)
+			{
+				// the behavior does not exist anymore
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Gets a new {@link Url} having the queued event parameters as query parameters
+	 *
+	 * @param request the actual {@link Request}
+	 * @param parameters the queued event parameters
+	 * @return a new {@link Url}
+	 */
+	private static Url newUrl(Request request, JSONArray parameters)
+	{
+		final Url url = new Url(request.getUrl());
+		url.getQueryParameters().clear();
+
+		if (parameters != null)
+		{
+			for (int i = 0; i < parameters.length(); i++)
+			{
+				JSONObject parameter = parameters.getJSONObject(i);
+				url.addQueryParameter(parameter.getString("name"), parameter.optString("value"));
+			}
+		}
+
+		return url;
+	}
+}
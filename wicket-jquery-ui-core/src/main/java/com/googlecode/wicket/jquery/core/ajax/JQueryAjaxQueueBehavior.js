@@ -0,0 +1,66 @@
+/**
+ * Client side event queue of JQueryAjaxQueueBehavior<br>
+ * Events pushed by queued JQueryAjaxBehaviors are kept until the queue is flushed, either on an interval or at the end of a gesture, then sent in one request.
+ */
+var JQueryAjaxQueue = JQueryAjaxQueue || {
+	queues: {},
+
+	/**
+	 * Gets (or creates) the named queue
+	 */
+	get: function(name) {
+		if (!this.queues.hasOwnProperty(name)) {
+			this.queues[name] = { events: [], callback: null, interval: 0, timer: null };
+		}
+
+		return this.queues[name];
+	},
+
+	/**
+	 * Registers the named queue, pending events are kept
+	 */
+	register: function(name, callback, interval, events) {
+		var queue = this.get(name);
+		queue.callback = callback;
+		queue.interval = interval;
+
+		var namespace = '.jqueryqueue-' + name;
+		jQuery(document).off(namespace);
+
+		if (events) {
+			jQuery(document).on(events.split(' ').join(namespace + ' ') + namespace, function() {
+				setTimeout(function() { JQueryAjaxQueue.flush(name); }, 0); // let the widget handle the gesture end first
+			});
+		}
+	},
+
+	/**
+	 * Pushes an event to the named queue
+	 */
+	push: function(name, event) {
+		var queue = this.get(name);
+		queue.events.push(event);
+
+		if (queue.timer === null && queue.interval > 0) {
+			queue.timer = setTimeout(function() { JQueryAjaxQueue.flush(name); }, queue.interval);
+		}
+	},
+
+	/**
+	 * Sends the pending events of the named queue in one request
+	 */
+	flush: function(name) {
+		var queue = this.get(name);
+
+		if (queue.timer !== null) {
+			clearTimeout(queue.timer);
+			queue.timer = null;
+		}
+
+		if (queue.events.length > 0 && queue.callback !== null) {
+			var events = queue.events;
+			queue.events = [];
+			queue.callback(JSON.stringify(events));
+		}
+	}
+};
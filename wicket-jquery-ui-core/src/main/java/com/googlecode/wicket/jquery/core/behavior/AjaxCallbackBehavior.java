@@ -17,16 +17,30 @@
 package com.googlecode.wicket.jquery.core.behavior;
 
 import org.apache.wicket.Application;
+import org.apache.wicket.Component;
+import org.apache.wicket.Session;
 import org.apache.wicket.behavior.AbstractAjaxBehavior;
+import org.apache.wicket.request.IRequestCycle;
+import org.apache.wicket.request.IRequestHandler;
 import org.apache.wicket.request.IRequestParameters;
+import org.apache.wicket.request.Response;
 import org.apache.wicket.request.cycle.RequestCycle;
 import org.apache.wicket.request.handler.TextRequestHandler;
+import org.apache.wicket.request.http.WebResponse;
+import org.apache.wicket.request.mapper.parameter.PageParameters;
+import org.apache.wicket.request.resource.ResourceReference;
 import org.apache.wicket.settings.RequestCycleSettings;
 
+import com.googlecode.wicket.jquery.core.metrics.CallbackMetric;
+import com.googlecode.wicket.jquery.core.metrics.CallbackMetrics;
+
 /**
  * Provides an ajax endpoint that sends a "text" response<br>
  * The default content type is "application/json" <br>
- * The default encoding is the current {@code Application}'s {@link RequestCycleSettings}
+ * The default encoding is the current {@code Application}'s {@link RequestCycleSettings}<br>
+ * <br>
+ * The endpoint can optionally be stateless (see {@link #newStatelessFactory()})<br>
+ * If a listener is registered to {@link CallbackMetrics}, the duration, row count (see {@link #setRowCount(long)}) and size (see {@link #setResponseSize(long)}) of each response are reported
  * 
  * @author Sebastien Briquet - sebfz1
  * @see TextRequestHandler
@@ -38,6 +52,12 @@ public abstract class AjaxCallbackBehavior extends AbstractAjaxBehavior
 	private final String mimetype;
 	private final String encoding;
 
+	/** the number of rows of the current response, if applicable */
+	private transient long rows = CallbackMetric.UNKNOWN;
+
+	/** the size of the current response, if it cannot be counted */
+	private transient long size = CallbackMetric.UNKNOWN;
+
 	/**
 	 * Constructor with default "application/json" content type
 	 */
@@ -76,6 +96,90 @@ public abstract class AjaxCallbackBehavior extends AbstractAjaxBehavior
 		return false;
 	}
 
+	/**
+	 * Gets the url that references this endpoint<br>
+	 * If {@link #newStatelessFactory()} returns a factory, the url references the {@link StatelessCallbackResource} instead of the behavior itself. The url token is then bound to
+	 * the current session (which gets bound if temporary) and is reused for subsequent renderings within that session; it expires once unused, or once the session is unbound (see
+	 * {@link StatelessCallbackRegistry})
+	 * 
+	 * @return the url that references this endpoint
+	 */
+	@Override
+	public CharSequence getCallbackUrl()
+	{
+		final IAjaxCallbackFactory factory = this.newStatelessFactory();
+
+		if (factory != null)
+		{
+			final Session session = Session.get();
+			session.bind(); // the token is bound to the session
+
+			final Component component = this.getComponent();
+			final String key = String.format("%s:%s:%d", component.getPage().getClass().getName(), component.getPageRelativePath(), component.getBehaviors().indexOf(this));
+			final String token = StatelessCallbackRegistry.get().register(key, session.getId(), factory);
+
+			final ResourceReference reference = new StatelessCallbackResource.Reference(component.getClass());
+			Application.get().getResourceReferenceRegistry().registerResourceReference(reference);
+
+			return RequestCycle.get().urlFor(reference, new PageParameters().set(StatelessCallbackResource.TOKEN, token));
+		}
+
+		return super.getCallbackUrl();
+	}
+
+	/**
+	 * Gets the content type
+	 * 
+	 * @return the content type
+	 */
+	public String getMimeType()
+	{
+		return this.mimetype;
+	}
+
+	/**
+	 * Gets the encoding
+	 * 
+	 * @return the encoding
+	 */
+	public String getEncoding()
+	{
+		return this.encoding;
+	}
+
+	/**
+	 * Sets the number of rows of the current response, to be reported to {@link CallbackMetrics}<br>
+	 * This method is intended to be called by implementations serving rows, ie: data sources
+	 * 
+	 * @param rows the number of rows
+	 */
+	protected void setRowCount(long rows)
+	{
+		this.rows = rows;
+	}
+
+	/**
+	 * Sets the size of the current response, to be reported to {@link CallbackMetrics}<br>
+	 * The bytes written to the {@link WebResponse} are counted as they are written, this size is only reported if nothing could be counted (ie: the response is written to
+	 * another output)
+	 * 
+	 * @param size the size in bytes
+	 */
+	protected void setResponseSize(long size)
+	{
+		this.size = size;
+	}
+
+	/**
+	 * Gets the number of rows of the current response
+	 * 
+	 * @return the number of rows, or {@link CallbackMetric#UNKNOWN}
+	 */
+	long getRowCount()
+	{
+		return this.rows;
+	}
+
 	// Methods //
 
 	/**
@@ -99,6 +203,138 @@ public abstract class AjaxCallbackBehavior extends AbstractAjaxBehavior
 		RequestCycle requestCycle = RequestCycle.get();
 		IRequestParameters parameters = requestCycle.getRequest().getQueryParameters();
 
-		requestCycle.scheduleRequestHandlerAfterCurrent(new TextRequestHandler(this.mimetype, this.encoding, this.getResponse(parameters)));
+		requestCycle.scheduleRequestHandlerAfterCurrent(this.getRequestHandler(parameters));
+	}
+
+	/**
+	 * Gets the {@link IRequestHandler} that will send the response, decorated for reporting its {@link CallbackMetric} if a listener is registered to {@link CallbackMetrics}
+	 * 
+	 * @param parameters the {@link IRequestParameters}
+	 * @return the {@link IRequestHandler}
+	 */
+	IRequestHandler getRequestHandler(IRequestParameters parameters)
+	{
+		if (CallbackMetrics.get().isEnabled())
+		{
+			final long start = System.nanoTime();
+			this.rows = CallbackMetric.UNKNOWN;
+			this.size = CallbackMetric.UNKNOWN;
+
+			return new MetricsRequestHandler(this.newRequestHandler(parameters), start);
+		}
+
+		return this.newRequestHandler(parameters);
+	}
+
+	// Factories //
+
+	/**
+	 * Gets a new {@link IAjaxCallbackFactory}, making the endpoint stateless (opt-in)<br>
+	 * If a factory is supplied, reads are served by the shared {@link StatelessCallbackResource} - using a new behavior created by the factory - rather than by this behavior, so
+	 * the page is neither deserialized nor locked. The factory should not hold any reference to the component (ie: it should not be an anonymous or inner class of it).<br>
+	 * <br>
+	 * <b>Example</b>
+	 * 
+	 * <pre>
+	 * protected AbstractAjaxBehavior newDataProviderBehavior(IModel&lt;List&lt;IColumn&gt;&gt; columns, IDataProvider&lt;Product&gt; provider)
+	 * {
+	 * 	return new DataProviderBehavior&lt;Product&gt;(columns, provider) {
+	 * 
+	 * 		protected IAjaxCallbackFactory newStatelessFactory()
+	 * 		{
+	 * 			return new ProductCallbackFactory(); // ie: () -&gt; new DataProviderBehavior&lt;&gt;(newColumnsModel(), new ProductDataProvider())
+	 * 		}
+	 * 	};
+	 * }
+	 * </pre>
+	 * 
+	 * @return {@code null} by default, meaning the endpoint is stateful
+	 */
+	protected IAjaxCallbackFactory newStatelessFactory()
+	{
+		return null;
+	}
+
+	/**
+	 * Gets a new {@link IRequestHandler} that will send the response<br>
+	 * This method can be overridden to provide another kind of response, ie: a streamed response
+	 * 
+	 * @param parameters the {@link IRequestParameters}
+	 * @return a new {@link TextRequestHandler} by default
+	 */
+	protected IRequestHandler newRequestHandler(IRequestParameters parameters)
+	{
+		return new TextRequestHandler(this.mimetype, this.encoding, this.getResponse(parameters));
+	}
+
+	// Classes //
+
+	/**
+	 * Decorates the {@link IRequestHandler} for reporting its {@link CallbackMetric} once responded
+	 */
+	private class MetricsRequestHandler implements IRequestHandler
+	{
+		private final IRequestHandler handler;
+		private final long start;
+
+		public MetricsRequestHandler(IRequestHandler handler, long start)
+		{
+			this.handler = handler;
+			this.start = start;
+		}
+
+		@Override
+		public void respond(IRequestCycle requestCycle)
+		{
+			final CountingWebResponse response = this.newCountingResponse(requestCycle);
+
+			if (response != null)
+			{
+				final Response original = ((RequestCycle) requestCycle).setResponse(response);
+
+				try
+				{
+					this.handler.respond(requestCycle);
+				}
+				finally
+				{
+					((RequestCycle) requestCycle).setResponse(original);
+				}
+			}
+			else
+			{
+				this.handler.respond(requestCycle);
+			}
+
+			final AjaxCallbackBehavior behavior = AjaxCallbackBehavior.this;
+			final Component component = behavior.getComponent();
+			final String path = component != null ? CallbackMetrics.getPath(component) : StatelessCallbackResource.class.getSimpleName();
+			final long nanos = System.nanoTime() - this.start;
+			final long size = response != null && response.getCount() > 0 ? response.getCount() : behavior.size;
+
+			CallbackMetrics.get().report(new CallbackMetric(path, CallbackMetrics.getName(behavior.getClass()), nanos, behavior.rows, size));
+		}
+
+		/**
+		 * Gets a new {@link CountingWebResponse} wrapping the current response, so the size of the response is counted as it is written
+		 *
+		 * @param requestCycle the {@link IRequestCycle}
+		 * @return the {@link CountingWebResponse}, or {@code null} if the response cannot be wrapped
+		 */
+		private CountingWebResponse newCountingResponse(IRequestCycle requestCycle)
+		{
+			if (requestCycle instanceof RequestCycle && requestCycle.getResponse() instanceof WebResponse)
+			{
+				return new CountingWebResponse((WebResponse) requestCycle.getResponse());
+			}
+
+			return null;
+		}
+
+		@Override
+		public void detach(IRequestCycle requestCycle)
+		{
+			this.handler.detach(requestCycle);
+		}
 	}
 }
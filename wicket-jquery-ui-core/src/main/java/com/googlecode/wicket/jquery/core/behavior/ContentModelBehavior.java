@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.behavior;
+
+import java.util.Objects;
+
+import org.apache.wicket.Component;
+import org.apache.wicket.model.IModel;
+import org.apache.wicket.request.IRequestParameters;
+import org.apache.wicket.util.lang.Args;
+
+/**
+ * Provides the behavior that loads a (html) content on demand<br>
+ * The content is read from the model each time it is requested, unless {@link #getContentKey()} supplies a key: the last content is then kept (transiently) and served again as
+ * long as the key does not change.
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+public class ContentModelBehavior extends AjaxCallbackBehavior
+{
+	private static final long serialVersionUID = 1L;
+
+	private final IModel<String> model;
+
+	/** the last content and its key, lost on serialization */
+	private transient Object key = null;
+	private transient String content = null;
+
+	/**
+	 * Constructor with default "text/html" content type
+	 *
+	 * @param model the content model
+	 */
+	public ContentModelBehavior(IModel<String> model)
+	{
+		this(model, "text/html");
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param model the content model
+	 * @param mimetype the content type
+	 */
+	public ContentModelBehavior(IModel<String> model, String mimetype)
+	{
+		super(mimetype);
+
+		this.model = Args.notNull(model, "model");
+	}
+
+	// Properties //
+
+	/**
+	 * Gets the key identifying the current content, ie: the id of the model object<br>
+	 * If a key is supplied, the content is only read again from the model when the key changes
+	 *
+	 * @return {@code null} by default, meaning the content is read on each request
+	 */
+	protected Object getContentKey()
+	{
+		return null;
+	}
+
+	// Methods //
+
+	@Override
+	protected String getResponse(IRequestParameters parameters)
+	{
+		final Object key = this.getContentKey();
+
+		if (key != null && this.content != null && Objects.equals(key, this.key))
+		{
+			return this.content;
+		}
+
+		final String content = String.valueOf(this.model.getObject());
+
+		if (key != null)
+		{
+			this.key = key;
+			this.content = content;
+		}
+
+		return content;
+	}
+
+	// Events //
+
+	@Override
+	public void detach(Component component)
+	{
+		super.detach(component);
+
+		this.model.detach();
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.behavior;
+
+import java.time.Instant;
+
+import javax.servlet.http.Cookie;
+
+import org.apache.wicket.request.http.WebResponse;
+
+/**
+ * Provides a {@link WebResponse} that counts the bytes written to the wrapped response<br>
+ * Text written as {@link CharSequence} is counted as UTF-8.
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+class CountingWebResponse extends WebResponse
+{
+	private final WebResponse response;
+	private long count = 0L;
+
+	/**
+	 * Constructor
+	 *
+	 * @param response the wrapped {@link WebResponse}
+	 */
+	public CountingWebResponse(WebResponse response)
+	{
+		this.response = response;
+	}
+
+	// Properties //
+
+	/**
+	 * Gets the number of bytes written so far
+	 *
+	 * @return the number of bytes
+	 */
+	public long getCount()
+	{
+		return this.count;
+	}
+
+	// Methods //
+
+	@Override
+	public void write(CharSequence sequence)
+	{
+		this.response.write(sequence);
+		this.count += utf8Length(sequence);
+	}
+
+	@Override
+	public void write(byte[] array)
+	{
+		this.response.write(array);
+		this.count += array.length;
+	}
+
+	@Override
+	public void write(byte[] array, int offset, int length)
+	{
+		this.response.write(array, offset, length);
+		this.count += length;
+	}
+
+	@Override
+	public void addCookie(Cookie cookie)
+	{
+		this.response.addCookie(cookie);
+	}
+
+	@Override
+	public void clearCookie(Cookie cookie)
+	{
+		this.response.clearCookie(cookie);
+	}
+
+	@Override
+	public boolean isHeaderSupported()
+	{
+		return this.response.isHeaderSupported();
+	}
+
+	@Override
+	public void setHeader(String name, String value)
+	{
+		this.response.setHeader(name, value);
+	}
+
+	@Override
+	public void addHeader(String name, String value)
+	{
+		this.response.addHeader(name, value);
+	}
+
+	@Override
+	public void setDateHeader(String name, Instant date)
+	{
+		this.response.setDateHeader(name, date);
+	}
+
+	@Override
+	public void setContentLength(long length)
+	{
+		this.response.setContentLength(length);
+	}
+
+	@Override
+	public void setContentType(String mimeType)
+	{
+		this.response.setContentType(mimeType);
+	}
+
+	@Override
+	public void setStatus(int sc)
+	{
+		this.response.setStatus(sc);
+	}
+
+	@Override
+	public void sendError(int sc, String msg)
+	{
+		this.response.sendError(sc, msg);
+	}
+
+	@Override
+	public String encodeRedirectURL(CharSequence url)
+	{
+		return this.response.encodeRedirectURL(url);
+	}
+
+	@Override
+	public void sendRedirect(String url)
+	{
+		this.response.sendRedirect(url);
+	}
+
+	@Override
+	public boolean isRedirect()
+	{
+		return this.response.isRedirect();
+	}
+
+	@Override
+	public void flush()
+	{
+		this.response.flush();
+	}
+
+	@Override
+	public void reset()
+	{
+		this.response.reset();
+		this.count = 0L;
+	}
+
+	@Override
+	public String encodeURL(CharSequence url)
+	{
+		return this.response.encodeURL(url);
+	}
+
+	@Override
+	public Object getContainerResponse()
+	{
+		return this.response.getContainerResponse();
+	}
+
+	// Helpers //
+
+	/**
+	 * Gets the UTF-8 length of the supplied {@link CharSequence}, without encoding it
+	 *
+	 * @param sequence the {@link CharSequence}
+	 * @return the number of bytes
+	 */
+	private static long utf8Length(CharSequence sequence)
+	{
+		long length = 0L;
+
+		for (int i = 0; i < sequence.length(); i++)
+		{
+			final char c = sequence.charAt(i);
+
+			if (c < 0x80)
+			{
+				length += 1;
+			}
+			else if (c < 0x800)
+			{
+				length += 2;
+			}
+			else if (Character.isHighSurrogate(c) && i + 1 < sequence.length() && Character.isLowSurrogate(sequence.charAt(i + 1)))
+			{
+				length += 4;
+				i++;
+			}
+			else
+			{
+				length += 3;
+			}
+		}
+
+		return length;
+	}
+}
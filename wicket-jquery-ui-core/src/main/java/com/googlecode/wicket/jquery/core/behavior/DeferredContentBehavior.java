@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.behavior;
+
+import org.apache.wicket.Component;
+import org.apache.wicket.MarkupContainer;
+import org.apache.wicket.MetaDataKey;
+import org.apache.wicket.WicketRuntimeException;
+import org.apache.wicket.behavior.Behavior;
+import org.apache.wicket.core.request.handler.IPartialPageRequestHandler;
+
+/**
+ * Provides a behavior that defers the rendering of the content - the direct children - of the {@link MarkupContainer} it is bound to<br>
+ * Until {@link #load(IPartialPageRequestHandler)} is called, the children are not allowed to be visible and only render their placeholder tag, so neither their markup nor
+ * their models are rendered or loaded. Once loaded, the children are rendered through ajax; they can be unloaded again with {@link #unload(IPartialPageRequestHandler)}.<br>
+ * <br>
+ * <b>Note:</b> the children are kept in the component tree. While not loaded, their visibility-allowed flag is forced to {@code false} and their output-markup-placeholder-tag
+ * flag to {@code true}; both flags are recorded on the child itself and restored to their original values once loaded. Children rendering their body only cannot be deferred -
+ * they have no tag to render a placeholder for - so they are rendered as usual.
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+public class DeferredContentBehavior extends Behavior
+{
+	private static final long serialVersionUID = 1L;
+
+	/** the original flags of a deferred child: { visibility-allowed, output-markup-placeholder-tag } */
+	private static final MetaDataKey<boolean[]> FLAGS = new MetaDataKey<boolean[]>() {
+
+		private static final long serialVersionUID = 1L;
+	};
+
+	/** indicates whether the content is loaded */
+	private boolean loaded = false;
+
+	/** the container */
+	private MarkupContainer container = null;
+
+	// Properties //
+
+	/**
+	 * Indicates whether the content is loaded
+	 *
+	 * @return {@code true} or {@code false}
+	 */
+	public boolean isLoaded()
+	{
+		return this.loaded;
+	}
+
+	// Methods //
+
+	@Override
+	public void bind(Component component)
+	{
+		super.bind(component);
+
+		if (!(component instanceof MarkupContainer))
+		{
+			throw new WicketRuntimeException("DeferredContentBehavior can only be bound to a MarkupContainer");
+		}
+
+		this.container = (MarkupContainer) component;
+	}
+
+	/**
+	 * Loads the content, if not already loaded, and renders it
+	 *
+	 * @param handler the {@link IPartialPageRequestHandler}
+	 */
+	public void load(IPartialPageRequestHandler handler)
+	{
+		if (!this.loaded)
+		{
+			this.loaded = true;
+			this.update(handler);
+		}
+	}
+
+	/**
+	 * Unloads the content, if loaded, and renders the placeholders back
+	 *
+	 * @param handler the {@link IPartialPageRequestHandler}
+	 */
+	public void unload(IPartialPageRequestHandler handler)
+	{
+		if (this.loaded)
+		{
+			this.loaded = false;
+			this.update(handler);
+		}
+	}
+
+	/**
+	 * Applies the current state to the children and adds them to the handler
+	 *
+	 * @param handler the {@link IPartialPageRequestHandler}
+	 */
+	private void update(IPartialPageRequestHandler handler)
+	{
+		for (Component child : this.container)
+		{
+			if (!child.getRenderBodyOnly())
+			{
+				this.configure(child);
+				handler.add(child);
+			}
+		}
+	}
+
+	/**
+	 * Applies the current state to the child
+	 *
+	 * @param child the child {@link Component}
+	 */
+	private void configure(Component child)
+	{
+		if (child.getRenderBodyOnly())
+		{
+			return; // cannot be deferred
+		}
+
+		if (this.loaded)
+		{
+			this.restore(child);
+		}
+		else
+		{
+			this.defer(child);
+		}
+	}
+
+	/**
+	 * Records the original flags of the child, if not already deferred, and hides it behind its placeholder tag
+	 *
+	 * @param child the child {@link Component}
+	 */
+	private void defer(Component child)
+	{
+		if (child.getMetaData(FLAGS) == null) // a replaced child is a new instance, so is deferred as well
+		{
+			child.setMetaData(FLAGS, new boolean[] { child.isVisibilityAllowed(), child.getOutputMarkupPlaceholderTag() });
+
+			child.setOutputMarkupPlaceholderTag(true);
+			child.setVisibilityAllowed(false);
+		}
+	}
+
+	/**
+	 * Restores the original flags of the child, if deferred
+	 *
+	 * @param child the child {@link Component}
+	 */
+	private void restore(Component child)
+	{
+		final boolean[] original = child.getMetaData(FLAGS);
+
+		if (original != null)
+		{
+			child.setMetaData(FLAGS, null);
+			child.setVisibilityAllowed(original[0]);
+			child.setOutputMarkupPlaceholderTag(original[1]); // the markup id is still rendered, so the child can be deferred again
+		}
+	}
+
+	// Events //
+
+	@Override
+	public void onConfigure(Component component)
+	{
+		super.onConfigure(component);
+
+		for (Component child : this.container)
+		{
+			this.configure(child);
+		}
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.behavior;
+
+import org.apache.wicket.util.io.IClusterable;
+
+/**
+ * Provides a factory of {@link AjaxCallbackBehavior}, used to serve stateless (page-less) callbacks<br>
+ * The factory is registered once per endpoint and session, for the current session only, and expires once unused (see {@link StatelessCallbackRegistry#getTimeout()}). It is invoked once per
+ * request, outside of any page: it should <i>not</i> hold any reference to a component; user-specific state should rather be retrieved from the {@code Session} within the
+ * created behavior.
+ *
+ * @author Sebastien Briquet - sebfz1
+ * @see AjaxCallbackBehavior#newStatelessFactory()
+ */
+public interface IAjaxCallbackFactory extends IClusterable
+{
+	/**
+	 * Gets a new {@link AjaxCallbackBehavior}, which request handler (see {@link AjaxCallbackBehavior#newRequestHandler(org.apache.wicket.request.IRequestParameters)}) will be used to serve the request<br>
+	 * <b>Note:</b> the returned behavior will not be bound to any component
+	 *
+	 * @return a new {@code AjaxCallbackBehavior}
+	 */
+	AjaxCallbackBehavior newCallbackBehavior();
+}
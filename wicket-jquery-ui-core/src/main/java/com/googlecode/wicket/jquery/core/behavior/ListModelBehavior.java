@@ -62,10 +62,21 @@ public class ListModelBehavior<T> extends AjaxCallbackBehavior
 		this.converter = converter;
 	}
 
+	/**
+	 * Gets the {@code List} of objects to be sent
+	 *
+	 * @param parameters the request parameters
+	 * @return the model object by default
+	 */
+	protected List<T> getList(IRequestParameters parameters)
+	{
+		return this.model.getObject();
+	}
+
 	@Override
 	protected String getResponse(IRequestParameters parameters)
 	{
-		List<T> list = this.model.getObject();
+		List<T> list = this.getList(parameters);
 
 		if (this.converter != null)
 		{
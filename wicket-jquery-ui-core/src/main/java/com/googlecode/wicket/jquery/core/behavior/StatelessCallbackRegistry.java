@@ -0,0 +1,402 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.behavior;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.MetaDataKey;
+import org.apache.wicket.WicketRuntimeException;
+import org.apache.wicket.util.lang.Args;
+
+/**
+ * Provides the application-wide registry of {@link IAjaxCallbackFactory}{@code s}, used by the {@link StatelessCallbackResource}<br>
+ * Entries are held per session, and retrieved by a token made of the HMAC signature of the session id and of the key (typically the page class and component path). Therefore:
+ * <ul>
+ * <li>tokens cannot be forged, and are invalidated when the application restarts (the signing secret is generated when the registry is created)</li>
+ * <li>a token can only be used within the session that rendered it, so the endpoint is not reachable without the session that was authorized to render the page</li>
+ * <li>an endpoint is registered once per session, rendering it again reuses its token</li>
+ * <li>the number of entries of a session is capped (see {@link #getMaxEntries()}), the least recently used entry being evicted</li>
+ * <li>entries expire once they have not been used for {@link #getTimeout()}, and are removed when their session is unbound</li>
+ * </ul>
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+public class StatelessCallbackRegistry
+{
+	private static final String ALGORITHM = "HmacSHA256";
+
+	/** Default timeout of entries */
+	private static final Duration TIMEOUT = Duration.ofMinutes(30);
+
+	/** Default max number of entries per session */
+	private static final int MAX_ENTRIES = 64;
+
+	/** Expired entries are purged every {@value #PURGE} registrations */
+	private static final int PURGE = 256;
+
+	private static final MetaDataKey<StatelessCallbackRegistry> KEY = new MetaDataKey<StatelessCallbackRegistry>() {
+
+		private static final long serialVersionUID = 1L;
+	};
+
+	/**
+	 * Gets the {@link StatelessCallbackRegistry} of the current {@link Application}
+	 *
+	 * @return the {@link StatelessCallbackRegistry}
+	 */
+	public static StatelessCallbackRegistry get()
+	{
+		return get(Application.get());
+	}
+
+	/**
+	 * Gets the {@link StatelessCallbackRegistry} of the supplied {@link Application}<br>
+	 * On creation, the registry is registered as an unbound listener of the session store, so entries of a session are removed once the session is unbound
+	 *
+	 * @param application the {@link Application}
+	 * @return the {@link StatelessCallbackRegistry}
+	 */
+	public static StatelessCallbackRegistry get(Application application)
+	{
+		StatelessCallbackRegistry registry = application.getMetaData(KEY);
+
+		if (registry == null)
+		{
+			synchronized (application)
+			{
+				registry = application.getMetaData(KEY);
+
+				if (registry == null)
+				{
+					registry = new StatelessCallbackRegistry();
+					application.getSessionStore().registerUnboundListener(registry::unbind);
+					application.setMetaData(KEY, registry);
+				}
+			}
+		}
+
+		return registry;
+	}
+
+	private final byte[] secret;
+	private final ConcurrentMap<String, Entries> sessions;
+	private final AtomicInteger registrations;
+	private volatile Duration timeout = TIMEOUT;
+	private volatile int maxEntries = MAX_ENTRIES;
+
+	/**
+	 * Constructor
+	 */
+	private StatelessCallbackRegistry()
+	{
+		this.secret = new byte[32];
+		this.sessions = new ConcurrentHashMap<>();
+		this.registrations = new AtomicInteger();
+
+		new SecureRandom().nextBytes(this.secret);
+	}
+
+	// Properties //
+
+	/**
+	 * Gets the duration after which an unused entry expires
+	 *
+	 * @return the timeout
+	 */
+	public Duration getTimeout()
+	{
+		return this.timeout;
+	}
+
+	/**
+	 * Sets the duration after which an unused entry expires<br>
+	 * It should not be shorter than the session timeout
+	 *
+	 * @param timeout the timeout
+	 * @return this, for chaining
+	 */
+	public StatelessCallbackRegistry setTimeout(Duration timeout)
+	{
+		this.timeout = Args.notNull(timeout, "timeout");
+
+		return this;
+	}
+
+	/**
+	 * Gets the max number of entries per session
+	 *
+	 * @return the max number of entries
+	 */
+	public int getMaxEntries()
+	{
+		return this.maxEntries;
+	}
+
+	/**
+	 * Sets the max number of entries per session<br>
+	 * Once reached, the least recently used entry of the session is evicted (its endpoint will respond 404 until rendered again)
+	 *
+	 * @param maxEntries the max number of entries
+	 * @return this, for chaining
+	 */
+	public StatelessCallbackRegistry setMaxEntries(int maxEntries)
+	{
+		this.maxEntries = Args.withinRange(1, Integer.MAX_VALUE, maxEntries, "maxEntries");
+
+		return this;
+	}
+
+	/**
+	 * Gets the number of entries, including expired entries that have not been purged yet
+	 *
+	 * @return the number of entries
+	 */
+	public int size()
+	{
+		int size = 0;
+
+		for (Entries entries : this.sessions.values())
+		{
+			synchronized (entries)
+			{
+				size += entries.size();
+			}
+		}
+
+		return size;
+	}
+
+	// Methods //
+
+	/**
+	 * Registers the {@link IAjaxCallbackFactory} for the supplied session, unless the key is already registered for that session (the existing entry is then kept and its expiry
+	 * is postponed)
+	 *
+	 * @param key the key, ie: the page class and the component path
+	 * @param sessionId the id of the session the token is bound to
+	 * @param factory the {@link IAjaxCallbackFactory}
+	 * @return the signed token to be used to retrieve the factory
+	 */
+	public String register(String key, String sessionId, IAjaxCallbackFactory factory)
+	{
+		Args.notEmpty(key, "key");
+		Args.notEmpty(sessionId, "sessionId");
+		Args.notNull(factory, "factory");
+
+		if (this.registrations.incrementAndGet() % PURGE == 0)
+		{
+			this.purge();
+		}
+
+		final String token = this.sign(sessionId, key);
+		final Entries entries = this.sessions.computeIfAbsent(sessionId, id -> new Entries());
+
+		synchronized (entries)
+		{
+			final Registration registration = entries.get(token);
+
+			if (registration != null && !registration.isExpired())
+			{
+				registration.touch(this.expiry());
+			}
+			else
+			{
+				entries.put(token, new Registration(factory, this.expiry()));
+			}
+		}
+
+		return token;
+	}
+
+	/**
+	 * Gets the {@link IAjaxCallbackFactory} corresponding to the token, provided that the token is registered for the supplied session and is not expired
+	 *
+	 * @param token the token
+	 * @param sessionId the id of the current session
+	 * @return {@code null} if the token is unknown, expired or bound to another session
+	 */
+	public IAjaxCallbackFactory get(String token, String sessionId)
+	{
+		if (token == null || sessionId == null)
+		{
+			return null;
+		}
+
+		final Entries entries = this.sessions.get(sessionId);
+
+		if (entries == null)
+		{
+			return null;
+		}
+
+		synchronized (entries)
+		{
+			final Registration registration = entries.get(token);
+
+			if (registration == null)
+			{
+				return null;
+			}
+
+			if (registration.isExpired())
+			{
+				entries.remove(token);
+
+				return null;
+			}
+
+			registration.touch(this.expiry()); // sliding expiration
+
+			return registration.factory;
+		}
+	}
+
+	/**
+	 * Removes the entries of the supplied session
+	 *
+	 * @param sessionId the session id
+	 */
+	public void unbind(String sessionId)
+	{
+		if (sessionId != null)
+		{
+			this.sessions.remove(sessionId);
+		}
+	}
+
+	/**
+	 * Removes the expired entries, and the sessions having no more entries
+	 */
+	public void purge()
+	{
+		this.sessions.values().removeIf(entries -> {
+
+			synchronized (entries)
+			{
+				entries.values().removeIf(Registration::isExpired);
+
+				return entries.isEmpty();
+			}
+		});
+	}
+
+	// Helpers //
+
+	/**
+	 * Gets the expiry time of an entry registered or used now
+	 *
+	 * @return the expiry time, in ms
+	 */
+	private long expiry()
+	{
+		return System.currentTimeMillis() + this.timeout.toMillis();
+	}
+
+	/**
+	 * Gets the signature of the session id and key
+	 *
+	 * @param sessionId the session id
+	 * @param key the key
+	 * @return the signature, as an url-safe base64 string
+	 */
+	private String sign(String sessionId, String key)
+	{
+		try
+		{
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(new SecretKeySpec(this.secret, ALGORITHM));
+
+			final String data = sessionId + ":" + key;
+
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(data.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (GeneralSecurityException e)
+		{
+			throw new WicketRuntimeException(e);
+		}
+	}
+
+	// Classes //
+
+	/**
+	 * Registrations of a session, by token, in access order<br>
+	 * <b>Note:</b> access should be synchronized on the instance
+	 */
+	private class Entries extends LinkedHashMap<String, Registration>
+	{
+		private static final long serialVersionUID = 1L;
+
+		public Entries()
+		{
+			super(16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Registration> eldest)
+		{
+			return this.size() > StatelessCallbackRegistry.this.maxEntries;
+		}
+	}
+
+	/**
+	 * Registration of a factory
+	 */
+	private static class Registration
+	{
+		private final IAjaxCallbackFactory factory;
+		private volatile long expiry;
+
+		public Registration(IAjaxCallbackFactory factory, long expiry)
+		{
+			this.factory = factory;
+			this.expiry = expiry;
+		}
+
+		/**
+		 * Indicates whether the entry is expired
+		 *
+		 * @return {@code true} if the entry is expired
+		 */
+		public boolean isExpired()
+		{
+			return this.expiry < System.currentTimeMillis();
+		}
+
+		/**
+		 * Postpones the expiry of the entry
+		 *
+		 * @param expiry the new expiry time, in ms
+		 */
+		public void touch(long expiry)
+		{
+			this.expiry = expiry;
+		}
+	}
+}
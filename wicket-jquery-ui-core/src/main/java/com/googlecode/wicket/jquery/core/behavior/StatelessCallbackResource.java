@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.behavior;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.wicket.Session;
+import org.apache.wicket.request.IRequestHandler;
+import org.apache.wicket.request.IRequestParameters;
+import org.apache.wicket.request.cycle.RequestCycle;
+import org.apache.wicket.request.resource.AbstractResource;
+import org.apache.wicket.request.resource.IResource;
+import org.apache.wicket.request.resource.ResourceReference;
+import org.apache.wicket.util.string.Strings;
+
+/**
+ * Provides the stateless {@link IResource} serving {@link AjaxCallbackBehavior} responses without involving any page<br>
+ * The request is served by a new {@link AjaxCallbackBehavior}, created by the {@link IAjaxCallbackFactory} registered in the {@link StatelessCallbackRegistry} under the {@value #TOKEN}
+ * parameter, provided that the token has been issued to the current session. As the page is neither deserialized nor locked, concurrent reads are served in parallel.<br>
+ * The response is sent by the behavior's own {@link IRequestHandler} (see {@code AjaxCallbackBehavior#newRequestHandler}), so row limits and streamed responses apply the same
+ * way as for stateful callbacks; the behavior is detached once responded.
+ *
+ * @author Sebastien Briquet - sebfz1
+ * @see AjaxCallbackBehavior#newStatelessFactory()
+ */
+public class StatelessCallbackResource extends AbstractResource
+{
+	private static final long serialVersionUID = 1L;
+
+	/** The name of the token parameter */
+	public static final String TOKEN = "token";
+
+	private static final StatelessCallbackResource INSTANCE = new StatelessCallbackResource();
+
+	/**
+	 * Gets the instance of the resource
+	 *
+	 * @return the single instance of the resource
+	 */
+	public static StatelessCallbackResource get()
+	{
+		return INSTANCE;
+	}
+
+	/**
+	 * Private constructor
+	 */
+	private StatelessCallbackResource()
+	{
+		// noop
+	}
+
+	@Override
+	protected ResourceResponse newResourceResponse(Attributes attributes)
+	{
+		final ResourceResponse response = new ResourceResponse();
+		final RequestCycle requestCycle = RequestCycle.get();
+		final IRequestParameters parameters = requestCycle.getRequest().getQueryParameters();
+		final String token = parameters.getParameterValue(TOKEN).toOptionalString();
+		final IAjaxCallbackFactory factory = StatelessCallbackRegistry.get().get(token, Session.get().getId());
+
+		if (factory == null)
+		{
+			response.setError(404, "Unknown or expired token");
+
+			return response;
+		}
+
+		final AjaxCallbackBehavior behavior = factory.newCallbackBehavior();
+		final String encoding = this.getEncoding(behavior);
+
+		response.setContentType(behavior.getMimeType() + ";charset=" + encoding);
+		response.setTextEncoding(encoding);
+		response.disableCaching();
+		response.setWriteCallback(new WriteCallback() {
+
+			@Override
+			public void writeData(Attributes attributes)
+			{
+				// the response is sent by the behavior's own request handler, ie: possibly streamed //
+				final IRequestHandler handler = behavior.getRequestHandler(parameters);
+
+				try
+				{
+					handler.respond(requestCycle);
+				}
+				finally
+				{
+					handler.detach(requestCycle);
+					behavior.detach(null);
+				}
+			}
+		});
+
+		return response;
+	}
+
+	/**
+	 * Gets the encoding of the behavior, or the request's one as default
+	 *
+	 * @param behavior the {@link AjaxCallbackBehavior}
+	 * @return the encoding
+	 */
+	private String getEncoding(AjaxCallbackBehavior behavior)
+	{
+		if (Strings.isEmpty(behavior.getEncoding()))
+		{
+			Charset charset = RequestCycle.get().getRequest().getCharset();
+
+			return charset != null ? charset.name() : StandardCharsets.UTF_8.name();
+		}
+
+		return behavior.getEncoding();
+	}
+
+	// Classes //
+
+	/**
+	 * Provides the {@link ResourceReference} of the {@link StatelessCallbackResource}<br>
+	 * The reference is scoped by widget type, all references being served by the same resource instance.
+	 */
+	public static class Reference extends ResourceReference
+	{
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Constructor
+		 *
+		 * @param scope the widget class
+		 */
+		public Reference(Class<?> scope)
+		{
+			super(scope, "callback");
+		}
+
+		@Override
+		public IResource getResource()
+		{
+			return StatelessCallbackResource.get();
+		}
+	}
+}
@@ -0,0 +1,619 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.converter;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.wicket.WicketRuntimeException;
+import org.apache.wicket.util.lang.Args;
+import org.apache.wicket.util.lang.Generics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.openjson.JSONArray;
+import com.github.openjson.JSONObject;
+import com.googlecode.wicket.jquery.core.utils.ConverterUtils;
+import com.googlecode.wicket.jquery.core.utils.JsonUtils;
+
+/**
+ * Provides a reflection-free binder of {@link JSONObject} to bean<br>
+ * The binding plan of a class - its no-arg constructor and one {@link MethodHandle} per writable property - is built once, on first use, and then shared application-wide. Binding
+ * an object therefore only costs a property lookup and a setter invocation per JSON property.<br>
+ * <br>
+ * JSON values are coerced to the property type as follow:
+ * <ul>
+ * <li>{@code null} values are ignored for primitive properties</li>
+ * <li>numbers are converted to the numeric type, or considered as a timestamp (ms) for {@link Date} &amp; {@code java.time} types</li>
+ * <li>ISO8601 strings are parsed for {@link Date} &amp; {@code java.time} types</li>
+ * <li>zoned and local {@code java.time} values are expressed in the supplied {@link ZoneOffset} (ie: the client's one), {@link ZoneOffset#UTC} by default</li>
+ * <li>nested {@link JSONObject}{@code s} are bound to the property type, {@link JSONArray}{@code s} are converted to a {@link List}</li>
+ * <li>other strings are converted using the application's {@code IConverterLocator} (see {@link ConverterUtils#toObject(String, Class)})</li>
+ * </ul>
+ *
+ * @param <T> the bean type
+ * @author Sebastien Briquet - sebfz1
+ */
+public final class JsonBinder<T>
+{
+	private static final Logger LOG = LoggerFactory.getLogger(JsonBinder.class);
+
+	private static final ClassValue<JsonBinder<?>> BINDERS = new ClassValue<JsonBinder<?>>() {
+
+		@Override
+		protected JsonBinder<?> computeValue(Class<?> type)
+		{
+			return new JsonBinder<>(type);
+		}
+	};
+
+	/**
+	 * Gets the {@link JsonBinder} of the supplied type
+	 *
+	 * @param <T> the bean type
+	 * @param type the bean class
+	 * @return the {@link JsonBinder}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> JsonBinder<T> of(Class<T> type)
+	{
+		return (JsonBinder<T>) BINDERS.get(Args.notNull(type, "type"));
+	}
+
+	private final Class<T> type;
+	private final MethodHandle constructor; // ()Object, null if none
+	private final List<Property> properties;
+
+	/**
+	 * Constructor
+	 *
+	 * @param type the bean class
+	 */
+	private JsonBinder(Class<T> type)
+	{
+		this(type, newConstructor(type), newProperties(type));
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param type the bean class
+	 * @param constructor the {@link MethodHandle} of the no-arg constructor
+	 * @param properties the writable {@link Property}{@code s}
+	 */
+	private JsonBinder(Class<T> type, MethodHandle constructor, List<Property> properties)
+	{
+		this.type = type;
+		this.constructor = constructor;
+		this.properties = properties;
+	}
+
+	// Properties //
+
+	/**
+	 * Gets a {@link JsonBinder} restricted to the supplied properties<br>
+	 * This is the binder to use for untrusted (ie: client) payloads, so that only the allowed properties can be set. Unknown names are ignored.
+	 *
+	 * @param names the names of the properties allowed to be bound
+	 * @return a new {@link JsonBinder}, sharing the binding plan of this binder
+	 */
+	public JsonBinder<T> only(String... names)
+	{
+		final List<String> allowed = Arrays.asList(names);
+		final List<Property> list = Generics.newArrayList();
+
+		for (Property property : this.properties)
+		{
+			if (allowed.contains(property.name))
+			{
+				list.add(property);
+			}
+		}
+
+		return new JsonBinder<>(this.type, this.constructor, Collections.unmodifiableList(list));
+	}
+
+	// Methods //
+
+	/**
+	 * Creates a new bean and binds the {@link JSONObject} to it, using {@link ZoneOffset#UTC}
+	 *
+	 * @param object the {@link JSONObject}
+	 * @return a new bean
+	 */
+	public T toObject(JSONObject object)
+	{
+		return this.toObject(object, ZoneOffset.UTC);
+	}
+
+	/**
+	 * Creates a new bean and binds the {@link JSONObject} to it
+	 *
+	 * @param object the {@link JSONObject}
+	 * @param offset the {@link ZoneOffset} of the zoned and local {@code java.time} values
+	 * @return a new bean
+	 */
+	public T toObject(JSONObject object, ZoneOffset offset)
+	{
+		if (this.constructor == null)
+		{
+			throw new WicketRuntimeException(String.format("%s does not have an accessible no-arg constructor", this.type.getName()));
+		}
+
+		try
+		{
+			return this.bind(object, this.type.cast(this.constructor.invokeExact()), offset);
+		}
+		catch (RuntimeException e)
+		{
+			throw e;
+		}
+		catch (Throwable e)
+		{
+			throw new WicketRuntimeException(String.format("Unable to instantiate %s", this.type.getName()), e);
+		}
+	}
+
+	/**
+	 * Binds the {@link JSONObject} to the supplied bean, using {@link ZoneOffset#UTC}<br>
+	 * Only properties present in the {@link JSONObject} are set.
+	 *
+	 * @param object the {@link JSONObject}
+	 * @param bean the bean
+	 * @return the bean
+	 */
+	public T bind(JSONObject object, T bean)
+	{
+		return this.bind(object, bean, ZoneOffset.UTC);
+	}
+
+	/**
+	 * Binds the {@link JSONObject} to the supplied bean<br>
+	 * Only properties present in the {@link JSONObject} are set.
+	 *
+	 * @param object the {@link JSONObject}
+	 * @param bean the bean
+	 * @param offset the {@link ZoneOffset} of the zoned and local {@code java.time} values
+	 * @return the bean
+	 */
+	public T bind(JSONObject object, T bean, ZoneOffset offset)
+	{
+		Args.notNull(offset, "offset");
+
+		for (Property property : this.properties)
+		{
+			if (object.has(property.name))
+			{
+				property.set(bean, object.opt(property.name), offset);
+			}
+		}
+
+		return bean;
+	}
+
+	// Helpers //
+
+	/**
+	 * Gets the {@link MethodHandle} of the no-arg constructor, adapted to {@code ()Object}
+	 *
+	 * @param type the bean class
+	 * @return the {@link MethodHandle} or {@code null} if the type cannot be instantiated
+	 */
+	private static MethodHandle newConstructor(Class<?> type)
+	{
+		if (type.isInterface() || Modifier.isAbstract(type.getModifiers()))
+		{
+			return null;
+		}
+
+		try
+		{
+			Constructor<?> constructor = type.getDeclaredConstructor();
+
+			if (!Modifier.isPublic(constructor.getModifiers()) || !Modifier.isPublic(type.getModifiers()))
+			{
+				constructor.setAccessible(true);
+			}
+
+			return MethodHandles.lookup().unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+		}
+		catch (NoSuchMethodException | IllegalAccessException | RuntimeException e)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * Gets the writable {@link Property}{@code s} of the bean class
+	 *
+	 * @param type the bean class
+	 * @return the read-only list of {@link Property}
+	 */
+	private static List<Property> newProperties(Class<?> type)
+	{
+		final List<Property> list = Generics.newArrayList();
+
+		try
+		{
+			BeanInfo info = Introspector.getBeanInfo(type, Object.class);
+
+			for (PropertyDescriptor descriptor : info.getPropertyDescriptors())
+			{
+				Method method = descriptor.getWriteMethod();
+
+				if (method != null)
+				{
+					MethodHandle setter = unreflect(method);
+
+					if (setter != null)
+					{
+						list.add(new Property(descriptor.getName(), descriptor.getPropertyType(), setter));
+					}
+					else
+					{
+						LOG.warn("Property '{}' of {} will not be bound: its setter is not accessible", descriptor.getName(), type.getName());
+					}
+				}
+			}
+		}
+		catch (IntrospectionException e)
+		{
+			throw new WicketRuntimeException(String.format("Unable to introspect %s", type.getName()), e);
+		}
+
+		return Collections.unmodifiableList(list);
+	}
+
+	/**
+	 * Gets the {@link MethodHandle} of the setter, adapted to {@code (Object,Object)void}
+	 *
+	 * @param method the setter
+	 * @return the {@link MethodHandle} or {@code null} if the setter is not accessible
+	 */
+	private static MethodHandle unreflect(Method method)
+	{
+		try
+		{
+			if (!Modifier.isPublic(method.getDeclaringClass().getModifiers()))
+			{
+				method.setAccessible(true);
+			}
+
+			return MethodHandles.lookup().unreflect(method).asType(MethodType.methodType(void.class, Object.class, Object.class));
+		}
+		catch (IllegalAccessException | RuntimeException e)
+		{
+			LOG.debug(e.getMessage(), e);
+
+			return null;
+		}
+	}
+
+	/**
+	 * Coerces the JSON value to the supplied type
+	 *
+	 * @param value the JSON value
+	 * @param type the target type
+	 * @param offset the {@link ZoneOffset} of the zoned and local {@code java.time} values
+	 * @return the coerced value
+	 */
+	private static Object coerce(Object value, Class<?> type, ZoneOffset offset)
+	{
+		if (value == null || JSONObject.NULL.equals(value))
+		{
+			return null;
+		}
+
+		final Class<?> boxed = box(type);
+
+		if (boxed.isInstance(value))
+		{
+			return value;
+		}
+
+		if (value instanceof Number)
+		{
+			return fromNumber((Number) value, boxed, offset);
+		}
+
+		if (value instanceof JSONObject)
+		{
+			return JsonBinder.of(boxed).toObject((JSONObject) value, offset);
+		}
+
+		if (value instanceof JSONArray && boxed.isAssignableFrom(List.class))
+		{
+			return JsonUtils.toList((JSONArray) value);
+		}
+
+		final String string = value.toString();
+
+		if (boxed == String.class)
+		{
+			return string;
+		}
+
+		if (boxed.isEnum())
+		{
+			return toEnum(boxed, string);
+		}
+
+		final Object temporal = fromString(string, boxed, offset);
+
+		if (temporal != null)
+		{
+			return temporal;
+		}
+
+		return ConverterUtils.toObject(string, boxed);
+	}
+
+	/**
+	 * Converts a number to the supplied type
+	 *
+	 * @param number the number
+	 * @param type the target (boxed) type
+	 * @param offset the {@link ZoneOffset} of the zoned and local {@code java.time} values
+	 * @return the converted value
+	 */
+	private static Object fromNumber(Number number, Class<?> type, ZoneOffset offset)
+	{
+		if (type == Integer.class)
+		{
+			return number.intValue();
+		}
+
+		if (type == Long.class)
+		{
+			return number.longValue();
+		}
+
+		if (type == Double.class)
+		{
+			return number.doubleValue();
+		}
+
+		if (type == Float.class)
+		{
+			return number.floatValue();
+		}
+
+		if (type == Short.class)
+		{
+			return number.shortValue();
+		}
+
+		if (type == Byte.class)
+		{
+			return number.byteValue();
+		}
+
+		if (type == BigDecimal.class)
+		{
+			return new BigDecimal(number.toString());
+		}
+
+		if (type == BigInteger.class)
+		{
+			return new BigDecimal(number.toString()).toBigInteger(); // no long overflow
+		}
+
+		if (type == Boolean.class)
+		{
+			return number.intValue() != 0;
+		}
+
+		if (type == String.class)
+		{
+			return number.toString();
+		}
+
+		// timestamps //
+		final Instant instant = Instant.ofEpochMilli(number.longValue());
+		final Object temporal = fromInstant(instant, type, offset);
+
+		if (temporal != null)
+		{
+			return temporal;
+		}
+
+		return ConverterUtils.toObject(number.toString(), type);
+	}
+
+	/**
+	 * Parses an ISO8601 string to a {@link Date} or a {@code java.time} type
+	 *
+	 * @param string the string
+	 * @param type the target (boxed) type
+	 * @param offset the {@link ZoneOffset} of the zoned and local {@code java.time} values
+	 * @return the parsed value, or {@code null} if the type is not a date type
+	 */
+	private static Object fromString(String string, Class<?> type, ZoneOffset offset)
+	{
+		if (type == LocalDate.class)
+		{
+			return string.length() > 10 ? toLocalDateTime(string, offset).toLocalDate() : LocalDate.parse(string);
+		}
+
+		if (type == LocalDateTime.class)
+		{
+			return toLocalDateTime(string, offset);
+		}
+
+		if (type == Date.class || type == Instant.class || type == ZonedDateTime.class || type == OffsetDateTime.class)
+		{
+			return fromInstant(OffsetDateTime.parse(string).toInstant(), type, offset);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Parses an ISO8601 string to a {@link LocalDateTime}<br>
+	 * If the string has an offset (ie: 'Z'), the date is converted to the supplied {@link ZoneOffset}
+	 *
+	 * @param string the string
+	 * @param offset the {@link ZoneOffset}
+	 * @return the {@link LocalDateTime}
+	 */
+	private static LocalDateTime toLocalDateTime(String string, ZoneOffset offset)
+	{
+		try
+		{
+			return LocalDateTime.ofInstant(OffsetDateTime.parse(string).toInstant(), offset);
+		}
+		catch (DateTimeParseException e)
+		{
+			return LocalDateTime.parse(string); // no offset
+		}
+	}
+
+	/**
+	 * Converts an {@link Instant} to a {@link Date} or a {@code java.time} type
+	 *
+	 * @param instant the {@link Instant}
+	 * @param type the target (boxed) type
+	 * @param offset the {@link ZoneOffset} of the zoned and local {@code java.time} values
+	 * @return the converted value, or {@code null} if the type is not a date type
+	 */
+	private static Object fromInstant(Instant instant, Class<?> type, ZoneOffset offset)
+	{
+		if (type == Date.class)
+		{
+			return Date.from(instant);
+		}
+
+		if (type == Instant.class)
+		{
+			return instant;
+		}
+
+		if (type == ZonedDateTime.class)
+		{
+			return instant.atZone(offset);
+		}
+
+		if (type == OffsetDateTime.class)
+		{
+			return instant.atOffset(offset);
+		}
+
+		if (type == LocalDateTime.class)
+		{
+			return LocalDateTime.ofInstant(instant, offset);
+		}
+
+		if (type == LocalDate.class)
+		{
+			return LocalDateTime.ofInstant(instant, offset).toLocalDate();
+		}
+
+		return null;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object toEnum(Class<?> type, String name)
+	{
+		return Enum.valueOf((Class<Enum>) type, name);
+	}
+
+	/**
+	 * Gets the wrapper class of a primitive type
+	 *
+	 * @param type the type
+	 * @return the wrapper class, or the type itself if it is not primitive
+	 */
+	private static Class<?> box(Class<?> type)
+	{
+		if (!type.isPrimitive())
+		{
+			return type;
+		}
+
+		return MethodType.methodType(type).wrap().returnType();
+	}
+
+	// Classes //
+
+	/**
+	 * Writable property of the binding plan
+	 */
+	private static class Property
+	{
+		private final String name;
+		private final Class<?> type;
+		private final MethodHandle setter; // (Object,Object)void
+
+		public Property(String name, Class<?> type, MethodHandle setter)
+		{
+			this.name = name;
+			this.type = type;
+			this.setter = setter;
+		}
+
+		/**
+		 * Sets the coerced JSON value to the bean
+		 *
+		 * @param bean the bean
+		 * @param value the JSON value
+		 * @param offset the {@link ZoneOffset} of the zoned and local {@code java.time} values
+		 */
+		public void set(Object bean, Object value, ZoneOffset offset)
+		{
+			final Object object = coerce(value, this.type, offset);
+
+			if (object == null && this.type.isPrimitive())
+			{
+				return; // keeps the default value
+			}
+
+			try
+			{
+				this.setter.invokeExact(bean, object);
+			}
+			catch (RuntimeException e)
+			{
+				throw e;
+			}
+			catch (Throwable e)
+			{
+				throw new WicketRuntimeException(String.format("Unable to set property '%s'", this.name), e);
+			}
+		}
+	}
+}
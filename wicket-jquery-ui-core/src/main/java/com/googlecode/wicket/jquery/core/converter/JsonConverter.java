@@ -16,7 +16,12 @@
  */
 package com.googlecode.wicket.jquery.core.converter;
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
 import org.apache.wicket.util.io.IClusterable;
+import org.apache.wicket.util.lang.Args;
+
 import com.github.openjson.JSONObject;
 
 /**
@@ -30,6 +35,29 @@ public class JsonConverter<T> implements IJsonConverter<T>, IClusterable
 {
 	private static final long serialVersionUID = 1L;
 
+	private final Class<T> type;
+
+	/**
+	 * Constructor<br>
+	 * The object class is resolved from the type argument of a subclass (ie: {@code new JsonConverter<MyBean>() {}}), otherwise {@link #toObject(JSONObject)} is not supported
+	 * and {@link #JsonConverter(Class)} should be used instead
+	 */
+	public JsonConverter()
+	{
+		this.type = typeArgumentOf(this.getClass());
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param type the object class, used by {@link #toObject(JSONObject)}
+	 * @see JsonBinder
+	 */
+	public JsonConverter(Class<T> type)
+	{
+		this.type = Args.notNull(type, "type");
+	}
+
 	@Override
 	public JSONObject toJson(T object)
 	{
@@ -39,6 +67,43 @@ public class JsonConverter<T> implements IJsonConverter<T>, IClusterable
 	@Override
 	public T toObject(JSONObject object)
 	{
-		throw new UnsupportedOperationException("JsonConverter#toObject is not implemented");
+		if (this.type == null)
+		{
+			throw new UnsupportedOperationException("JsonConverter#toObject requires the object type to be supplied to the constructor");
+		}
+
+		return JsonBinder.of(this.type).toObject(object);
+	}
+
+	// Helpers //
+
+	/**
+	 * Gets the type argument of a direct {@link JsonConverter} subclass
+	 *
+	 * @param <T> the object type
+	 * @param clazz the converter class
+	 * @return the object class, or {@code null} if it cannot be resolved
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> Class<T> typeArgumentOf(Class<?> clazz)
+	{
+		final Type type = clazz.getGenericSuperclass();
+
+		if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() == JsonConverter.class)
+		{
+			final Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+
+			if (argument instanceof Class)
+			{
+				return (Class<T>) argument;
+			}
+
+			if (argument instanceof ParameterizedType)
+			{
+				return (Class<T>) ((ParameterizedType) argument).getRawType();
+			}
+		}
+
+		return null;
 	}
 }
@@ -0,0 +1,297 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.apache.wicket.WicketRuntimeException;
+
+/**
+ * Provides an in-memory {@link ICallbackMetricsListener} that aggregates {@link CallbackMetric}{@code s} per callback key<br>
+ * Durations are recorded in a fixed-size histogram of power-of-two microsecond buckets, so recording is lock-free and the memory footprint does not grow with the number of calls.
+ * Statistics can be read through {@link #getStatistics()} (ie: from a debug page) or through JMX once {@link #register(String)} has been called.
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+public class CallbackHistogram implements ICallbackMetricsListener, CallbackHistogramMXBean
+{
+	private final ConcurrentMap<String, Statistics> map = new ConcurrentHashMap<String, Statistics>();
+
+	@Override
+	public void onCallback(CallbackMetric metric)
+	{
+		this.map.computeIfAbsent(metric.getKey(), key -> new Statistics()).record(metric);
+	}
+
+	/**
+	 * Gets the {@link Statistics} of all measured callbacks
+	 *
+	 * @return the read-only {@code Map} of {@link Statistics}, by callback key
+	 */
+	public Map<String, Statistics> getStatistics()
+	{
+		return Collections.unmodifiableMap(this.map);
+	}
+
+	/**
+	 * Gets the {@link Statistics} of the callback
+	 *
+	 * @param key the callback key
+	 * @return the {@link Statistics}, or {@code null} if the callback has not been measured
+	 */
+	public Statistics getStatistics(String key)
+	{
+		return this.map.get(key);
+	}
+
+	/**
+	 * Registers this histogram to the platform MBean server
+	 *
+	 * @param name the name of the histogram, ie: the application name
+	 * @return the {@link ObjectName} the histogram is registered with
+	 */
+	public ObjectName register(String name)
+	{
+		try
+		{
+			ObjectName objectName = new ObjectName(String.format("com.googlecode.wicket.jquery:type=CallbackHistogram,name=%s", ObjectName.quote(name)));
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+
+			return objectName;
+		}
+		catch (JMException e)
+		{
+			throw new WicketRuntimeException("Unable to register the callback histogram", e);
+		}
+	}
+
+	// CallbackHistogramMXBean //
+
+	@Override
+	public String[] getKeys()
+	{
+		return this.map.keySet().toArray(new String[0]);
+	}
+
+	@Override
+	public long getCount(String key)
+	{
+		Statistics statistics = this.map.get(key);
+
+		return statistics != null ? statistics.getCount() : 0L;
+	}
+
+	@Override
+	public double getMeanMillis(String key)
+	{
+		Statistics statistics = this.map.get(key);
+
+		return statistics != null ? statistics.getMeanMillis() : 0D;
+	}
+
+	@Override
+	public double getMaxMillis(String key)
+	{
+		Statistics statistics = this.map.get(key);
+
+		return statistics != null ? statistics.getMaxMillis() : 0D;
+	}
+
+	@Override
+	public double getPercentileMillis(String key, double percentile)
+	{
+		Statistics statistics = this.map.get(key);
+
+		return statistics != null ? statistics.getPercentileMillis(percentile) : 0D;
+	}
+
+	@Override
+	public double getMeanRows(String key)
+	{
+		Statistics statistics = this.map.get(key);
+
+		return statistics != null ? statistics.getMeanRows() : -1D;
+	}
+
+	@Override
+	public double getMeanSize(String key)
+	{
+		Statistics statistics = this.map.get(key);
+
+		return statistics != null ? statistics.getMeanSize() : -1D;
+	}
+
+	@Override
+	public void reset()
+	{
+		this.map.clear();
+	}
+
+	// Classes //
+
+	/**
+	 * Statistics of a callback
+	 */
+	public static class Statistics
+	{
+		/** bucket {@code i} holds durations in [2^(i-1), 2^i[ microseconds; the last bucket is unbounded */
+		private static final int BUCKETS = 32;
+
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+		private final LongAdder count = new LongAdder();
+		private final LongAdder nanos = new LongAdder();
+		private final AtomicLong max = new AtomicLong();
+		private final LongAdder rows = new LongAdder();
+		private final LongAdder rowsCount = new LongAdder();
+		private final LongAdder size = new LongAdder();
+		private final LongAdder sizeCount = new LongAdder();
+
+		/**
+		 * Records a {@link CallbackMetric}
+		 *
+		 * @param metric the {@link CallbackMetric}
+		 */
+		void record(CallbackMetric metric)
+		{
+			final long value = metric.getNanos();
+			final long micros = TimeUnit.NANOSECONDS.toMicros(value);
+
+			this.buckets.incrementAndGet(Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKETS - 1));
+			this.count.increment();
+			this.nanos.add(value);
+			this.max.accumulateAndGet(value, Math::max);
+
+			if (metric.getRows() != CallbackMetric.UNKNOWN)
+			{
+				this.rows.add(metric.getRows());
+				this.rowsCount.increment();
+			}
+
+			if (metric.getSize() != CallbackMetric.UNKNOWN)
+			{
+				this.size.add(metric.getSize());
+				this.sizeCount.increment();
+			}
+		}
+
+		/**
+		 * Gets the number of calls
+		 *
+		 * @return the number of calls
+		 */
+		public long getCount()
+		{
+			return this.count.sum();
+		}
+
+		/**
+		 * Gets the mean duration
+		 *
+		 * @return the mean duration, in milliseconds
+		 */
+		public double getMeanMillis()
+		{
+			final long c = this.count.sum();
+
+			return c > 0 ? this.nanos.sum() / (c * 1e6) : 0D;
+		}
+
+		/**
+		 * Gets the max duration
+		 *
+		 * @return the max duration, in milliseconds
+		 */
+		public double getMaxMillis()
+		{
+			return this.max.get() / 1e6;
+		}
+
+		/**
+		 * Gets the duration under which the supplied percentage of calls have been served
+		 *
+		 * @param percentile the percentile, ie: {@code 99.0}
+		 * @return the upper bound of the matching bucket, in milliseconds
+		 */
+		public double getPercentileMillis(double percentile)
+		{
+			final long[] values = new long[BUCKETS];
+			long total = 0;
+
+			for (int i = 0; i < BUCKETS; i++)
+			{
+				values[i] = this.buckets.get(i);
+				total += values[i];
+			}
+
+			final double threshold = total * percentile / 100D;
+			long sum = 0;
+
+			for (int i = 0; i < BUCKETS - 1; i++)
+			{
+				sum += values[i];
+
+				if (sum >= threshold && sum > 0)
+				{
+					return (1L << i) / 1e3; // upper bound, in ms
+				}
+			}
+
+			return this.getMaxMillis();
+		}
+
+		/**
+		 * Gets the mean number of rows
+		 *
+		 * @return the mean number of rows, or {@code -1} if not known
+		 */
+		public double getMeanRows()
+		{
+			final long c = this.rowsCount.sum();
+
+			return c > 0 ? (double) this.rows.sum() / c : -1D;
+		}
+
+		/**
+		 * Gets the mean response size
+		 *
+		 * @return the mean size in bytes, or {@code -1} if not known
+		 */
+		public double getMeanSize()
+		{
+			final long c = this.sizeCount.sum();
+
+			return c > 0 ? (double) this.size.sum() / c : -1D;
+		}
+
+		@Override
+		public String toString()
+		{
+			return String.format("count: %d, mean: %.2f ms, p99: %.2f ms, max: %.2f ms, rows: %.1f, size: %.0f", this.getCount(), this.getMeanMillis(), this.getPercentileMillis(99D), this.getMaxMillis(), this.getMeanRows(), this.getMeanSize());
+		}
+	}
+}
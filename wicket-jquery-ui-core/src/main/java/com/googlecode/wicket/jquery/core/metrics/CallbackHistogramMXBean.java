@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.metrics;
+
+/**
+ * Management interface of the {@link CallbackHistogram}, for JMX exposure
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+public interface CallbackHistogramMXBean
+{
+	/**
+	 * Gets the keys of the measured callbacks
+	 *
+	 * @return the keys, see {@link CallbackMetric#getKey()}
+	 */
+	String[] getKeys();
+
+	/**
+	 * Gets the number of calls of the callback
+	 *
+	 * @param key the callback key
+	 * @return the number of calls
+	 */
+	long getCount(String key);
+
+	/**
+	 * Gets the mean duration of the callback
+	 *
+	 * @param key the callback key
+	 * @return the mean duration, in milliseconds
+	 */
+	double getMeanMillis(String key);
+
+	/**
+	 * Gets the max duration of the callback
+	 *
+	 * @param key the callback key
+	 * @return the max duration, in milliseconds
+	 */
+	double getMaxMillis(String key);
+
+	/**
+	 * Gets the duration under which the supplied percentage of calls have been served
+	 *
+	 * @param key the callback key
+	 * @param percentile the percentile, ie: {@code 99.0}
+	 * @return the duration, in milliseconds (upper bound of the histogram bucket)
+	 */
+	double getPercentileMillis(String key, double percentile);
+
+	/**
+	 * Gets the mean number of rows returned by the callback
+	 *
+	 * @param key the callback key
+	 * @return the mean number of rows, or {@code -1} if not known
+	 */
+	double getMeanRows(String key);
+
+	/**
+	 * Gets the mean response size of the callback
+	 *
+	 * @param key the callback key
+	 * @return the mean size in bytes, or {@code -1} if not known
+	 */
+	double getMeanSize(String key);
+
+	/**
+	 * Clears all statistics
+	 */
+	void reset();
+}
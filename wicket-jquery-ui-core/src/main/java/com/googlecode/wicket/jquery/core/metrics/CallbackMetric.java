@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provides the metric of a served callback
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+public class CallbackMetric
+{
+	/** value of a figure that is not known */
+	public static final long UNKNOWN = -1L;
+
+	private final String path;
+	private final String name;
+	private final long nanos;
+	private final long rows;
+	private final long size;
+
+	/**
+	 * Constructor
+	 *
+	 * @param path the path of the component, see {@link CallbackMetrics#getPath(org.apache.wicket.Component)}
+	 * @param name the name of the callback, ie: the behavior or event name
+	 * @param nanos the duration, in nanoseconds
+	 * @param rows the number of rows returned, or {@link #UNKNOWN}
+	 * @param size the response size, in bytes, or {@link #UNKNOWN}
+	 */
+	public CallbackMetric(String path, String name, long nanos, long rows, long size)
+	{
+		this.path = path;
+		this.name = name;
+		this.nanos = nanos;
+		this.rows = rows;
+		this.size = size;
+	}
+
+	/**
+	 * Gets the path of the component
+	 *
+	 * @return the path of the component
+	 */
+	public String getPath()
+	{
+		return this.path;
+	}
+
+	/**
+	 * Gets the name of the callback
+	 *
+	 * @return the name of the callback
+	 */
+	public String getName()
+	{
+		return this.name;
+	}
+
+	/**
+	 * Gets the key identifying the callback, ie: <code>path#name</code>
+	 *
+	 * @return the key
+	 */
+	public String getKey()
+	{
+		return this.path + "#" + this.name;
+	}
+
+	/**
+	 * Gets the duration, in nanoseconds
+	 *
+	 * @return the duration
+	 */
+	public long getNanos()
+	{
+		return this.nanos;
+	}
+
+	/**
+	 * Gets the duration, in milliseconds
+	 *
+	 * @return the duration
+	 */
+	public long getMillis()
+	{
+		return TimeUnit.NANOSECONDS.toMillis(this.nanos);
+	}
+
+	/**
+	 * Gets the number of rows returned
+	 *
+	 * @return the number of rows, or {@link #UNKNOWN}
+	 */
+	public long getRows()
+	{
+		return this.rows;
+	}
+
+	/**
+	 * Gets the response size
+	 *
+	 * @return the size in bytes, or {@link #UNKNOWN}
+	 */
+	public long getSize()
+	{
+		return this.size;
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.format("%s: %d ms, %d rows, %d bytes", this.getKey(), this.getMillis(), this.rows, this.size);
+	}
+}
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.metrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.Component;
+import org.apache.wicket.MetaDataKey;
+import org.apache.wicket.util.lang.Args;
+
+/**
+ * Provides the application-wide registry of {@link ICallbackMetricsListener}{@code s}<br>
+ * Ajax callbacks ({@code JQueryAjaxBehavior}{@code s}) and callback endpoints ({@code AjaxCallbackBehavior}{@code s}, ie: data sources) report a {@link CallbackMetric} to this
+ * registry once served. Nothing is measured as long as no listener is registered.<br>
+ * <br>
+ * <b>Example</b>
+ *
+ * <pre>
+ * protected void init()
+ * {
+ * 	super.init();
+ *
+ * 	CallbackMetrics.get(this).add(new CallbackHistogram());
+ * }
+ * </pre>
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+public class CallbackMetrics
+{
+	private static final MetaDataKey<CallbackMetrics> KEY = new MetaDataKey<CallbackMetrics>() {
+
+		private static final long serialVersionUID = 1L;
+	};
+
+	/**
+	 * Gets the {@link CallbackMetrics} of the current {@link Application}
+	 *
+	 * @return the {@link CallbackMetrics}
+	 */
+	public static CallbackMetrics get()
+	{
+		return get(Application.get());
+	}
+
+	/**
+	 * Gets the {@link CallbackMetrics} of the supplied {@link Application}
+	 *
+	 * @param application the {@link Application}
+	 * @return the {@link CallbackMetrics}
+	 */
+	public static CallbackMetrics get(Application application)
+	{
+		CallbackMetrics metrics = application.getMetaData(KEY);
+
+		if (metrics == null)
+		{
+			synchronized (application)
+			{
+				metrics = application.getMetaData(KEY);
+
+				if (metrics == null)
+				{
+					metrics = new CallbackMetrics();
+					application.setMetaData(KEY, metrics);
+				}
+			}
+		}
+
+		return metrics;
+	}
+
+	/**
+	 * Gets the path identifying the component, ie: <code>page-class:page-relative-path</code><br>
+	 * Repeater indices are normalized (see {@link #normalize(String)}), so that all items of a repeater share the same path.
+	 *
+	 * @param component the {@link Component}
+	 * @return the path
+	 */
+	public static String getPath(Component component)
+	{
+		return component.getPage().getClass().getName() + ":" + normalize(component.getPageRelativePath());
+	}
+
+	/**
+	 * Normalizes a component path by replacing its numeric segments - ie: repeater indices - by {@code *}<br>
+	 * ie: <code>rows:1234:cells:2:cell</code> becomes <code>rows:*:cells:*:cell</code>
+	 *
+	 * @param path the component path
+	 * @return the normalized path
+	 */
+	public static String normalize(String path)
+	{
+		final StringBuilder builder = new StringBuilder(path.length());
+		int start = 0;
+
+		for (int i = 0; i <= path.length(); i++)
+		{
+			if (i == path.length() || path.charAt(i) == ':')
+			{
+				if (i > start && isNumeric(path, start, i))
+				{
+					builder.append('*');
+				}
+				else
+				{
+					builder.append(path, start, i);
+				}
+
+				if (i < path.length())
+				{
+					builder.append(':');
+				}
+
+				start = i + 1;
+			}
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Indicates whether the characters of the supplied range are all digits
+	 *
+	 * @param string the string
+	 * @param start the start index, inclusive
+	 * @param end the end index, exclusive
+	 * @return {@code true} or {@code false}
+	 */
+	private static boolean isNumeric(String string, int start, int end)
+	{
+		for (int i = start; i < end; i++)
+		{
+			if (!Character.isDigit(string.charAt(i)))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Gets the name of the class, or of its nearest non anonymous superclass
+	 *
+	 * @param type the class
+	 * @return the simple name of the class
+	 */
+	public static String getName(Class<?> type)
+	{
+		Class<?> c = type;
+
+		while (c.isAnonymousClass())
+		{
+			c = c.getSuperclass();
+		}
+
+		return c.getSimpleName();
+	}
+
+	private final List<ICallbackMetricsListener> listeners = new CopyOnWriteArrayList<ICallbackMetricsListener>();
+
+	/**
+	 * Constructor
+	 */
+	private CallbackMetrics()
+	{
+		// noop
+	}
+
+	// Properties //
+
+	/**
+	 * Indicates whether at least one listener is registered
+	 *
+	 * @return {@code true} or {@code false}
+	 */
+	public boolean isEnabled()
+	{
+		return !this.listeners.isEmpty();
+	}
+
+	// Methods //
+
+	/**
+	 * Registers a {@link ICallbackMetricsListener}
+	 *
+	 * @param listener the {@link ICallbackMetricsListener}
+	 * @return this, for chaining
+	 */
+	public CallbackMetrics add(ICallbackMetricsListener listener)
+	{
+		this.listeners.add(Args.notNull(listener, "listener"));
+
+		return this;
+	}
+
+	/**
+	 * Unregisters a {@link ICallbackMetricsListener}
+	 *
+	 * @param listener the {@link ICallbackMetricsListener}
+	 * @return this, for chaining
+	 */
+	public CallbackMetrics remove(ICallbackMetricsListener listener)
+	{
+		this.listeners.remove(listener);
+
+		return this;
+	}
+
+	/**
+	 * Notifies the registered listeners
+	 *
+	 * @param metric the {@link CallbackMetric}
+	 */
+	public void report(CallbackMetric metric)
+	{
+		for (ICallbackMetricsListener listener : this.listeners)
+		{
+			listener.onCallback(metric);
+		}
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.metrics;
+
+/**
+ * Specifies a listener of {@link CallbackMetric}{@code s}<br>
+ * Listeners are registered application-wide to the {@link CallbackMetrics} registry and are notified synchronously, at the end of each callback. Implementations should
+ * therefore be thread-safe and fast.
+ *
+ * @author Sebastien Briquet - sebfz1
+ * @see CallbackHistogram
+ */
+public interface ICallbackMetricsListener
+{
+	/**
+	 * Triggered when a callback has been served
+	 *
+	 * @param metric the {@link CallbackMetric}
+	 */
+	void onCallback(CallbackMetric metric);
+}
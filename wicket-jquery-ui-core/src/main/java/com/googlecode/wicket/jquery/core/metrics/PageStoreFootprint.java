@@ -0,0 +1,382 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.metrics;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.Component;
+import org.apache.wicket.MetaDataKey;
+import org.apache.wicket.Page;
+import org.apache.wicket.behavior.Behavior;
+import org.apache.wicket.request.cycle.RequestCycle;
+import org.apache.wicket.serialize.ISerializer;
+import org.apache.wicket.util.io.ByteCountingOutputStream;
+import org.apache.wicket.util.lang.Args;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides an in-memory report of the page-store footprint, per page class, per component path and per behavior class<br>
+ * Once installed, the application serializer is decorated so that each serialized {@link Page} is measured: the size of the page itself is the actual number of bytes written to
+ * the page store, and the size of each component (resp. behavior) is the size of its own state - its fields, models, behaviors and metadata - other components being excluded.<br>
+ * Statistics can be read through {@link #getComponents()}, {@link #getBehaviors()} and {@link #getPages()} (ie: from a {@link PageStoreFootprintPanel}).<br>
+ * <br>
+ * <b>Warning:</b> each component and behavior is serialized again for the measurement, this is a diagnostic facility that should not be installed in production<br>
+ * <br>
+ * <b>Example</b>
+ *
+ * <pre>
+ * protected void init()
+ * {
+ * 	super.init();
+ *
+ * 	if (this.usesDevelopmentConfig())
+ * 	{
+ * 		PageStoreFootprint.install(this);
+ * 	}
+ * }
+ * </pre>
+ *
+ * <b>Note:</b> the serializer is read by the page manager on its creation, so the report <i>must</i> be installed in {@code Application#init()}: once the page manager exists, decorating
+ * the serializer has no effect.
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+public class PageStoreFootprint
+{
+	private static final Logger LOG = LoggerFactory.getLogger(PageStoreFootprint.class);
+
+	private static final MetaDataKey<PageStoreFootprint> KEY = new MetaDataKey<PageStoreFootprint>() {
+
+		private static final long serialVersionUID = 1L;
+	};
+
+	/**
+	 * Installs a {@link PageStoreFootprint} to the supplied {@link Application}, by decorating its serializer<br>
+	 * This method should be called from {@code Application#init()}, before the page manager is created
+	 *
+	 * @param application the {@link Application}
+	 * @return the {@link PageStoreFootprint}
+	 * @throws IllegalStateException if the footprint is installed while serving a request, the page manager being already created by then
+	 */
+	public static PageStoreFootprint install(Application application)
+	{
+		synchronized (application)
+		{
+			PageStoreFootprint footprint = application.getMetaData(KEY);
+
+			if (footprint == null)
+			{
+				if (RequestCycle.get() != null)
+				{
+					throw new IllegalStateException("PageStoreFootprint should be installed in Application#init(), before the page manager is created");
+				}
+
+				footprint = new PageStoreFootprint();
+
+				ISerializer serializer = application.getFrameworkSettings().getSerializer();
+				application.getFrameworkSettings().setSerializer(new FootprintSerializer(serializer, footprint));
+				application.setMetaData(KEY, footprint);
+			}
+
+			return footprint;
+		}
+	}
+
+	/**
+	 * Gets the {@link PageStoreFootprint} of the current {@link Application}
+	 *
+	 * @return the {@link PageStoreFootprint}, or {@code null} if not installed
+	 */
+	public static PageStoreFootprint get()
+	{
+		return get(Application.get());
+	}
+
+	/**
+	 * Gets the {@link PageStoreFootprint} of the supplied {@link Application}
+	 *
+	 * @param application the {@link Application}
+	 * @return the {@link PageStoreFootprint}, or {@code null} if not installed
+	 */
+	public static PageStoreFootprint get(Application application)
+	{
+		return application.getMetaData(KEY);
+	}
+
+	private final ConcurrentMap<String, Footprint> pages = new ConcurrentHashMap<String, Footprint>();
+	private final ConcurrentMap<String, Footprint> components = new ConcurrentHashMap<String, Footprint>();
+	private final ConcurrentMap<String, Footprint> behaviors = new ConcurrentHashMap<String, Footprint>();
+
+	/**
+	 * Constructor
+	 */
+	private PageStoreFootprint()
+	{
+		// noop
+	}
+
+	// Properties //
+
+	/**
+	 * Gets the {@link Footprint}{@code s} of serialized pages
+	 *
+	 * @return the read-only {@code Map} of {@link Footprint}{@code s}, by page class name
+	 */
+	public Map<String, Footprint> getPages()
+	{
+		return Collections.unmodifiableMap(this.pages);
+	}
+
+	/**
+	 * Gets the {@link Footprint}{@code s} of components
+	 *
+	 * @return the read-only {@code Map} of {@link Footprint}{@code s}, by component path (ie: <code>page-class:page-relative-path</code>), repeater indices being normalized (see
+	 *         {@link CallbackMetrics#normalize(String)})
+	 */
+	public Map<String, Footprint> getComponents()
+	{
+		return Collections.unmodifiableMap(this.components);
+	}
+
+	/**
+	 * Gets the {@link Footprint}{@code s} of behaviors
+	 *
+	 * @return the read-only {@code Map} of {@link Footprint}{@code s}, by behavior class name
+	 */
+	public Map<String, Footprint> getBehaviors()
+	{
+		return Collections.unmodifiableMap(this.behaviors);
+	}
+
+	// Methods //
+
+	/**
+	 * Measures the supplied page
+	 *
+	 * @param page the {@link Page}
+	 * @param size the number of bytes the page has been serialized to
+	 */
+	public void measure(Page page, long size)
+	{
+		this.pages.computeIfAbsent(page.getClass().getName(), key -> new Footprint()).record(size);
+
+		this.measure(page);
+		page.visitChildren((component, visit) -> this.measure(component));
+	}
+
+	/**
+	 * Measures the supplied component and its behaviors
+	 *
+	 * @param component the {@link Component}
+	 */
+	private void measure(Component component)
+	{
+		// repeater indices are normalized by the path, so items do not grow the map //
+		this.components.computeIfAbsent(CallbackMetrics.getPath(component), key -> new Footprint()).record(sizeof(component));
+
+		for (Behavior behavior : component.getBehaviors())
+		{
+			this.behaviors.computeIfAbsent(behavior.getClass().getName(), key -> new Footprint()).record(sizeof(behavior));
+		}
+	}
+
+	/**
+	 * Clears all statistics
+	 */
+	public void reset()
+	{
+		this.pages.clear();
+		this.components.clear();
+		this.behaviors.clear();
+	}
+
+	// Helpers //
+
+	/**
+	 * Gets the serialized size of the object, components other than the object itself being excluded
+	 *
+	 * @param object the object
+	 * @return the size in bytes, or {@code -1} if the object could not be serialized
+	 */
+	private static long sizeof(Object object)
+	{
+		final ByteCountingOutputStream stream = new ByteCountingOutputStream();
+
+		try (ObjectOutputStream oos = new FootprintOutputStream(stream, object))
+		{
+			oos.writeObject(object);
+			oos.flush();
+
+			return stream.size();
+		}
+		catch (IOException e)
+		{
+			LOG.debug("Unable to measure {}: {}", object.getClass().getName(), e.getMessage());
+		}
+
+		return -1L;
+	}
+
+	// Classes //
+
+	/**
+	 * Footprint statistics
+	 */
+	public static class Footprint
+	{
+		private final LongAdder count = new LongAdder();
+		private final LongAdder total = new LongAdder();
+		private final AtomicLong last = new AtomicLong();
+		private final AtomicLong max = new AtomicLong();
+
+		/**
+		 * Records a measurement
+		 *
+		 * @param size the size in bytes, ignored if negative
+		 */
+		void record(long size)
+		{
+			if (size >= 0)
+			{
+				this.count.increment();
+				this.total.add(size);
+				this.last.set(size);
+				this.max.accumulateAndGet(size, Math::max);
+			}
+		}
+
+		/**
+		 * Gets the number of measurements
+		 *
+		 * @return the number of measurements
+		 */
+		public long getCount()
+		{
+			return this.count.sum();
+		}
+
+		/**
+		 * Gets the last measured size
+		 *
+		 * @return the size in bytes
+		 */
+		public long getLastSize()
+		{
+			return this.last.get();
+		}
+
+		/**
+		 * Gets the max measured size
+		 *
+		 * @return the size in bytes
+		 */
+		public long getMaxSize()
+		{
+			return this.max.get();
+		}
+
+		/**
+		 * Gets the mean measured size
+		 *
+		 * @return the size in bytes
+		 */
+		public double getMeanSize()
+		{
+			final long count = this.count.sum();
+
+			return count > 0 ? (double) this.total.sum() / count : 0D;
+		}
+	}
+
+	/**
+	 * {@link ObjectOutputStream} that excludes components other than the measured object
+	 */
+	private static class FootprintOutputStream extends ObjectOutputStream
+	{
+		private final Object object;
+
+		public FootprintOutputStream(OutputStream stream, Object object) throws IOException
+		{
+			super(stream);
+
+			this.object = object;
+			this.enableReplaceObject(true);
+		}
+
+		@Override
+		protected Object replaceObject(Object obj) throws IOException
+		{
+			if (obj != this.object && obj instanceof Component)
+			{
+				return null;
+			}
+
+			return obj;
+		}
+	}
+
+	/**
+	 * {@link ISerializer} decorator that measures serialized pages
+	 */
+	private static class FootprintSerializer implements ISerializer
+	{
+		private final ISerializer serializer;
+		private final PageStoreFootprint footprint;
+
+		public FootprintSerializer(ISerializer serializer, PageStoreFootprint footprint)
+		{
+			this.serializer = Args.notNull(serializer, "serializer");
+			this.footprint = footprint;
+		}
+
+		@Override
+		public byte[] serialize(Object object)
+		{
+			final byte[] bytes = this.serializer.serialize(object);
+
+			if (bytes != null && object instanceof Page)
+			{
+				try
+				{
+					this.footprint.measure((Page) object, bytes.length);
+				}
+				catch (RuntimeException e)
+				{
+					LOG.warn("Unable to measure page footprint", e); // never prevents the page from being stored
+				}
+			}
+
+			return bytes;
+		}
+
+		@Override
+		public Object deserialize(byte[] data)
+		{
+			return this.serializer.deserialize(data);
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.metrics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.wicket.markup.html.basic.Label;
+import org.apache.wicket.markup.html.list.ListItem;
+import org.apache.wicket.markup.html.list.ListView;
+import org.apache.wicket.markup.html.panel.Panel;
+import org.apache.wicket.model.IModel;
+import org.apache.wicket.model.LoadableDetachableModel;
+import org.apache.wicket.util.io.IClusterable;
+import org.apache.wicket.util.lang.Generics;
+
+import com.googlecode.wicket.jquery.core.metrics.PageStoreFootprint.Footprint;
+
+/**
+ * Provides a debug {@link Panel} displaying the {@link PageStoreFootprint} report: the largest pages, components and behaviors, by max serialized size<br>
+ * The panel is empty if no {@link PageStoreFootprint} is installed
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+public class PageStoreFootprintPanel extends Panel
+{
+	private static final long serialVersionUID = 1L;
+
+	/** Default number of rows */
+	private static final int ROWS = 20;
+
+	/**
+	 * Constructor
+	 *
+	 * @param id the markup id
+	 */
+	public PageStoreFootprintPanel(String id)
+	{
+		super(id);
+	}
+
+	// Properties //
+
+	/**
+	 * Gets the max number of rows to display per table
+	 *
+	 * @return {@link #ROWS} by default
+	 */
+	protected int getMaxRows()
+	{
+		return ROWS;
+	}
+
+	// Events //
+
+	@Override
+	protected void onInitialize()
+	{
+		super.onInitialize();
+
+		this.add(this.newListView("pages", footprint -> footprint.getPages()));
+		this.add(this.newListView("components", footprint -> footprint.getComponents()));
+		this.add(this.newListView("behaviors", footprint -> footprint.getBehaviors()));
+	}
+
+	// Factories //
+
+	/**
+	 * Gets a new {@link ListView} of footprints
+	 *
+	 * @param id the markup id
+	 * @param function the function that gets the {@link Footprint}{@code s} from the {@link PageStoreFootprint}
+	 * @return a new {@code ListView}
+	 */
+	private ListView<Map.Entry<String, Footprint>> newListView(String id, final FootprintFunction function)
+	{
+		final IModel<List<Map.Entry<String, Footprint>>> model = new LoadableDetachableModel<List<Map.Entry<String, Footprint>>>() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected List<Map.Entry<String, Footprint>> load()
+			{
+				final PageStoreFootprint footprint = PageStoreFootprint.get(PageStoreFootprintPanel.this.getApplication());
+
+				if (footprint == null)
+				{
+					return Generics.newArrayList();
+				}
+
+				return function.apply(footprint).entrySet().stream() // lf
+						.sorted(Comparator.comparingLong((Map.Entry<String, Footprint> e) -> e.getValue().getMaxSize()).reversed()) // lf
+						.limit(PageStoreFootprintPanel.this.getMaxRows()) // lf
+						.collect(Collectors.toList());
+			}
+		};
+
+		return new ListView<Map.Entry<String, Footprint>>(id, model) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected void populateItem(ListItem<Map.Entry<String, Footprint>> item)
+			{
+				final Map.Entry<String, Footprint> entry = item.getModelObject();
+				final Footprint footprint = entry.getValue();
+
+				item.add(new Label("name", entry.getKey()));
+				item.add(new Label("count", footprint.getCount()));
+				item.add(new Label("last", footprint.getLastSize()));
+				item.add(new Label("max", footprint.getMaxSize()));
+				item.add(new Label("mean", String.format("%.0f", footprint.getMeanSize())));
+			}
+		};
+	}
+
+	// Classes //
+
+	/**
+	 * Function that gets the {@link Footprint}{@code s} from the {@link PageStoreFootprint}
+	 */
+	@FunctionalInterface
+	private interface FootprintFunction extends IClusterable
+	{
+		Map<String, Footprint> apply(PageStoreFootprint footprint);
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.template;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.wicket.util.lang.Generics;
+import org.apache.wicket.util.string.Strings;
+import org.apache.wicket.util.string.interpolator.MapVariableInterpolator;
+
+/**
+ * Provides an immutable, pre-parsed text template<br>
+ * The text is parsed once into literal fragments and {@code ${variable}} names; rendering then only emits the fragments with the variables filled in.<br>
+ * The syntax is the one of {@link MapVariableInterpolator}: {@code $$} is an escaped {@code $} and unresolved variables are left as-is.
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+public class JQueryCompiledTemplate
+{
+	private final String text;
+	private final String[] literals; // literals.length == variables.length + 1
+	private final String[] variables;
+	private final int length; // the length of all literals
+
+	/**
+	 * Constructor
+	 *
+	 * @param text the template text
+	 * @param literals the literal fragments
+	 * @param variables the variable names, in between the literals
+	 */
+	private JQueryCompiledTemplate(String text, List<String> literals, List<String> variables)
+	{
+		this.text = text;
+		this.literals = literals.toArray(new String[0]);
+		this.variables = variables.toArray(new String[0]);
+
+		int size = 0;
+
+		for (String literal : this.literals)
+		{
+			size += literal.length();
+		}
+
+		this.length = size;
+	}
+
+	/**
+	 * Parses the text into a new {@link JQueryCompiledTemplate}
+	 *
+	 * @param text the template text
+	 * @return a new {@link JQueryCompiledTemplate}
+	 */
+	public static JQueryCompiledTemplate compile(String text)
+	{
+		final List<String> literals = Generics.newArrayList();
+		final List<String> variables = Generics.newArrayList();
+
+		if (!text.contains("${"))
+		{
+			literals.add(text); // same as MapVariableInterpolator, '$$' is not unescaped
+
+			return new JQueryCompiledTemplate(text, literals, variables);
+		}
+
+		final StringBuilder literal = new StringBuilder();
+		int pos = 0;
+		int start;
+
+		while ((start = indexOf(text, pos)) != -1)
+		{
+			literal.append(text, pos, start);
+
+			if (text.charAt(start + 1) == '$')
+			{
+				literal.append('$');
+				pos = start + 2;
+				continue;
+			}
+
+			final int end = text.indexOf('}', start + 2);
+
+			if (end == -1)
+			{
+				pos = start;
+				break;
+			}
+
+			literals.add(literal.toString());
+			variables.add(text.substring(start + 2, end));
+			literal.setLength(0);
+
+			pos = end + 1;
+		}
+
+		literals.add(literal.append(text.substring(pos)).toString());
+
+		return new JQueryCompiledTemplate(text, literals, variables);
+	}
+
+	/**
+	 * Gets the lowest index of {@code $$} or <code>${</code>
+	 *
+	 * @param text the text
+	 * @param pos the position to start from
+	 * @return the index or -1 if not found
+	 */
+	private static int indexOf(String text, int pos)
+	{
+		final int i1 = text.indexOf("$$", pos);
+		final int i2 = text.indexOf("${", pos);
+
+		if (i1 < 0)
+		{
+			return i2;
+		}
+
+		if (i2 < 0)
+		{
+			return i1;
+		}
+
+		return Math.min(i1, i2);
+	}
+
+	/**
+	 * Gets the raw template text
+	 *
+	 * @return the text
+	 */
+	public String asString()
+	{
+		return this.text;
+	}
+
+	/**
+	 * Gets the template text, with the variables filled in
+	 *
+	 * @param variables the variable {@code Map}, can be {@code null}
+	 * @return the text
+	 */
+	public String asString(Map<String, ?> variables)
+	{
+		if (variables == null)
+		{
+			return this.text;
+		}
+
+		if (this.variables.length == 0)
+		{
+			return this.literals[0];
+		}
+
+		final StringBuilder builder = new StringBuilder(this.length + 16 * this.variables.length);
+
+		for (int i = 0; i < this.variables.length; i++)
+		{
+			builder.append(this.literals[i]);
+
+			final String value = Strings.toString(variables.get(this.variables[i]));
+
+			if (value != null)
+			{
+				builder.append(value);
+			}
+			else
+			{
+				builder.append("${").append(this.variables[i]).append('}'); // left uninterpolated
+			}
+		}
+
+		return builder.append(this.literals[this.variables.length]).toString();
+	}
+}
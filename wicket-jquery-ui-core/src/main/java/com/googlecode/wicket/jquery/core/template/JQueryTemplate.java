@@ -17,6 +17,7 @@
 package com.googlecode.wicket.jquery.core.template;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import org.apache.wicket.util.lang.Generics;
@@ -42,13 +43,17 @@ public abstract class JQueryTemplate implements IJQueryTemplate
 	}
 
 	/**
-	 * Provides a {@link JQueryTemplate} that reads the template from file in specified class's package
+	 * Provides a {@link JQueryTemplate} that reads the template from file in specified class's package<br>
+	 * The file is parsed once and cached application-wide by the {@link JQueryTemplateCache}; only the scope, file name, encoding and variables are held (and serialized) by the
+	 * instance.
 	 */
 	public static class JQueryPackageTextTemplate extends JQueryTemplate
 	{
 		private static final long serialVersionUID = 1L;
 
-		private final PackageTextTemplate template;
+		private final Class<?> scope;
+		private final String fileName;
+		private final String encoding;
 		private final Map<String, ?> variables; // NOSONAR
 
 		public JQueryPackageTextTemplate(Class<?> clazz)
@@ -63,44 +68,71 @@ public abstract class JQueryTemplate implements IJQueryTemplate
 
 		public JQueryPackageTextTemplate(Class<?> clazz, String fileName)
 		{
-			this.template = new PackageTextTemplate(clazz, fileName);
-			this.variables = null;
+			this(clazz, fileName, PackageTextTemplate.DEFAULT_CONTENT_TYPE, PackageTextTemplate.DEFAULT_ENCODING, null);
 		}
 
 		public JQueryPackageTextTemplate(Class<?> clazz, String fileName, String contentType)
 		{
-			this.template = new PackageTextTemplate(clazz, fileName, contentType);
-			this.variables = null;
+			this(clazz, fileName, contentType, PackageTextTemplate.DEFAULT_ENCODING, null);
 		}
 
 		public JQueryPackageTextTemplate(Class<?> clazz, String fileName, String contentType, String encoding)
 		{
-			this.template = new PackageTextTemplate(clazz, fileName, contentType, encoding);
-			this.variables = null;
+			this(clazz, fileName, contentType, encoding, null);
 		}
 
 		public JQueryPackageTextTemplate(Class<?> clazz, String fileName, Map<String, ?> variables)
 		{
-			this.template = new PackageTextTemplate(clazz, fileName);
-			this.variables = variables;
+			this(clazz, fileName, PackageTextTemplate.DEFAULT_CONTENT_TYPE, PackageTextTemplate.DEFAULT_ENCODING, variables);
 		}
 
 		public JQueryPackageTextTemplate(Class<?> clazz, String fileName, String contentType, Map<String, ?> variables)
 		{
-			this.template = new PackageTextTemplate(clazz, fileName, contentType);
-			this.variables = variables;
+			this(clazz, fileName, contentType, PackageTextTemplate.DEFAULT_ENCODING, variables);
 		}
 
-		public JQueryPackageTextTemplate(Class<?> clazz, String fileName, String contentType, String encoding, Map<String, ?> variables)
+		public JQueryPackageTextTemplate(Class<?> clazz, String fileName, String contentType, String encoding, Map<String, ?> variables) // NOSONAR
 		{
-			this.template = new PackageTextTemplate(clazz, fileName, contentType, encoding);
+			this.scope = clazz;
+			this.fileName = fileName;
+			this.encoding = encoding; // the content type does not affect the template text
 			this.variables = variables;
 		}
 
+		/**
+		 * Gets the locale of the template file
+		 *
+		 * @return {@code null} by default
+		 */
+		protected Locale getLocale()
+		{
+			return null;
+		}
+
+		/**
+		 * Gets the style of the template file
+		 *
+		 * @return {@code null} by default
+		 */
+		protected String getStyle()
+		{
+			return null;
+		}
+
+		/**
+		 * Gets the variation of the template file
+		 *
+		 * @return {@code null} by default
+		 */
+		protected String getVariation()
+		{
+			return null;
+		}
+
 		@Override
 		public String getText()
 		{
-			return this.template.asString(this.variables);
+			return JQueryTemplateCache.get().get(this.scope, this.fileName, this.encoding, this.getLocale(), this.getStyle(), this.getVariation()).asString(this.variables);
 		}
 	}
 }
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.core.template;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.wicket.Application;
+import org.apache.wicket.MetaDataKey;
+import org.apache.wicket.util.lang.Args;
+import org.apache.wicket.util.lang.Packages;
+import org.apache.wicket.util.resource.IResourceStream;
+import org.apache.wicket.util.template.PackageTextTemplate;
+
+/**
+ * Provides the application-wide cache of package text templates, parsed once into {@link JQueryCompiledTemplate}{@code s}<br>
+ * Templates are cached by scope, file name, encoding, locale, style and variation. In development mode, the resource modification time is checked on each access, so an edited
+ * template is parsed again.
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+public class JQueryTemplateCache
+{
+	private static final MetaDataKey<JQueryTemplateCache> KEY = new MetaDataKey<JQueryTemplateCache>() {
+
+		private static final long serialVersionUID = 1L;
+	};
+
+	/**
+	 * Gets the {@link JQueryTemplateCache} of the current {@link Application}
+	 *
+	 * @return the {@link JQueryTemplateCache}
+	 */
+	public static JQueryTemplateCache get()
+	{
+		return get(Application.get());
+	}
+
+	/**
+	 * Gets the {@link JQueryTemplateCache} of the supplied {@link Application}
+	 *
+	 * @param application the {@link Application}
+	 * @return the {@link JQueryTemplateCache}
+	 */
+	public static JQueryTemplateCache get(Application application)
+	{
+		JQueryTemplateCache cache = application.getMetaData(KEY);
+
+		if (cache == null)
+		{
+			synchronized (application)
+			{
+				cache = application.getMetaData(KEY);
+
+				if (cache == null)
+				{
+					cache = new JQueryTemplateCache(application);
+					application.setMetaData(KEY, cache);
+				}
+			}
+		}
+
+		return cache;
+	}
+
+	private final Application application;
+	private final ConcurrentMap<Key, Entry> entries;
+
+	/**
+	 * Constructor
+	 *
+	 * @param application the {@link Application}
+	 */
+	private JQueryTemplateCache(Application application)
+	{
+		this.application = application;
+		this.entries = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Gets the {@link JQueryCompiledTemplate} of a package text template
+	 *
+	 * @param scope the {@code Class} to be used for retrieving the classloader for loading the template
+	 * @param fileName the template file name, relative to the scope's package
+	 * @param encoding the file encoding, can be {@code null}
+	 * @return the {@link JQueryCompiledTemplate}
+	 */
+	public JQueryCompiledTemplate get(Class<?> scope, String fileName, String encoding)
+	{
+		return this.get(scope, fileName, encoding, null, null, null);
+	}
+
+	/**
+	 * Gets the {@link JQueryCompiledTemplate} of a package text template
+	 *
+	 * @param scope the {@code Class} to be used for retrieving the classloader for loading the template
+	 * @param fileName the template file name, relative to the scope's package
+	 * @param encoding the file encoding, can be {@code null}
+	 * @param locale the locale, can be {@code null}
+	 * @param style the style, can be {@code null}
+	 * @param variation the variation, can be {@code null}
+	 * @return the {@link JQueryCompiledTemplate}
+	 */
+	public JQueryCompiledTemplate get(Class<?> scope, String fileName, String encoding, Locale locale, String style, String variation)
+	{
+		final Key key = new Key(Args.notNull(scope, "scope"), Args.notEmpty(fileName, "fileName"), encoding, locale, style, variation);
+		Entry entry = this.entries.get(key);
+
+		if (entry == null || (this.application.usesDevelopmentConfig() && entry.isModified(this.lastModified(key))))
+		{
+			entry = this.load(key);
+			this.entries.put(key, entry);
+		}
+
+		return entry.template;
+	}
+
+	/**
+	 * Clears the cache
+	 */
+	public void clear()
+	{
+		this.entries.clear();
+	}
+
+	// Helpers //
+
+	/**
+	 * Loads and parses the template
+	 *
+	 * @param key the {@link Key}
+	 * @return a new {@link Entry}
+	 */
+	private Entry load(Key key)
+	{
+		final PackageTextTemplate template = new PackageTextTemplate(key.scope, key.fileName, key.style, key.variation, key.locale, PackageTextTemplate.DEFAULT_CONTENT_TYPE, key.encoding);
+		final String text = template.getString(); // loads the resource
+
+		return new Entry(JQueryCompiledTemplate.compile(text), template.lastModifiedTime());
+	}
+
+	/**
+	 * Gets the modification time of the template resource
+	 *
+	 * @param key the {@link Key}
+	 * @return the modification time, or {@code null} if unknown
+	 */
+	private Instant lastModified(Key key)
+	{
+		final String path = Packages.absolutePath(key.scope, key.fileName);
+		final IResourceStream stream = this.application.getResourceSettings().getResourceStreamLocator().locate(key.scope, path, key.style, key.variation, key.locale, null, false);
+
+		return stream != null ? stream.lastModifiedTime() : null;
+	}
+
+	// Classes //
+
+	/**
+	 * Cache key
+	 */
+	private static class Key
+	{
+		private final Class<?> scope;
+		private final String fileName;
+		private final String encoding;
+		private final Locale locale;
+		private final String style;
+		private final String variation;
+
+		public Key(Class<?> scope, String fileName, String encoding, Locale locale, String style, String variation)
+		{
+			this.scope = scope;
+			this.fileName = fileName;
+			this.encoding = encoding;
+			this.locale = locale;
+			this.style = style;
+			this.variation = variation;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return Objects.hash(this.scope, this.fileName, this.encoding, this.locale, this.style, this.variation);
+		}
+
+		@Override
+		public boolean equals(Object object)
+		{
+			if (object instanceof Key)
+			{
+				Key key = (Key) object;
+
+				return this.scope == key.scope && this.fileName.equals(key.fileName) && Objects.equals(this.encoding, key.encoding) && Objects.equals(this.locale, key.locale)
+						&& Objects.equals(this.style, key.style) && Objects.equals(this.variation, key.variation);
+			}
+
+			return false;
+		}
+	}
+
+	/**
+	 * Cache entry
+	 */
+	private static class Entry
+	{
+		private final JQueryCompiledTemplate template;
+		private final Instant modified;
+
+		public Entry(JQueryCompiledTemplate template, Instant modified)
+		{
+			this.template = template;
+			this.modified = modified;
+		}
+
+		/**
+		 * Indicates whether the resource has been modified since the template has been loaded
+		 *
+		 * @param modified the current modification time of the resource
+		 * @return {@code true} or {@code false}
+		 */
+		public boolean isModified(Instant modified)
+		{
+			return !Objects.equals(this.modified, modified);
+		}
+	}
+}
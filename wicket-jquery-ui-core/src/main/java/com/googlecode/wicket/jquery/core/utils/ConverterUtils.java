@@ -17,19 +17,31 @@
 package com.googlecode.wicket.jquery.core.utils;
 
 import java.util.Date;
+import java.util.Map;
 
 import org.apache.wicket.Application;
+import org.apache.wicket.IConverterLocator;
+import org.apache.wicket.MetaDataKey;
 import org.apache.wicket.Session;
+import org.apache.wicket.request.cycle.RequestCycle;
 import org.apache.wicket.util.convert.IConverter;
+import org.apache.wicket.util.lang.Generics;
 
 /**
- * Utility class for {@link Date}({@code s})
+ * Utility class for {@link Date}({@code s})<br>
+ * Converters are resolved once per type and per request: the resolved converters are kept in the {@link RequestCycle} metadata, so converting many values of the same type (ie:
+ * data-table rows, exports) does not hit the {@link IConverterLocator} for each value.
  * 
  * @author Sebastien Briquet - sebfz1
  * 
  */
 public class ConverterUtils
 {
+	private static final MetaDataKey<Converters> KEY = new MetaDataKey<Converters>() {
+
+		private static final long serialVersionUID = 1L;
+	};
+
 	/**
 	 * Utility class
 	 */
@@ -50,7 +62,7 @@ public class ConverterUtils
 		String value = null;
 
 		@SuppressWarnings("unchecked")
-		IConverter<T> converter = (IConverter<T>) Application.get().getConverterLocator().getConverter(object.getClass());
+		IConverter<T> converter = (IConverter<T>) ConverterUtils.getConverter(object.getClass());
 
 		if (converter != null)
 		{
@@ -63,4 +75,83 @@ public class ConverterUtils
 
 		return value;
 	}
+
+	/**
+	 * Converts the string value to an object of the supplied type using the appropriate converter
+	 * 
+	 * @param <T> the object type
+	 * @param value the string value
+	 * @param type the object type
+	 * @return the converted object, or {@code null} if no converter is defined for the supplied type
+	 * @throws org.apache.wicket.util.convert.ConversionException if the value cannot be converted
+	 */
+	public static <T> T toObject(String value, Class<T> type)
+	{
+		IConverter<T> converter = ConverterUtils.getConverter(type);
+
+		if (converter != null)
+		{
+			return converter.convertToObject(value, Session.get().getLocale());
+		}
+
+		return null;
+	}
+
+	/**
+	 * Gets the converter of the supplied type, from the current request cache if any
+	 * 
+	 * @param <T> the object type
+	 * @param type the object type
+	 * @return the {@link IConverter}, or {@code null} if none is defined
+	 */
+	public static <T> IConverter<T> getConverter(Class<T> type)
+	{
+		final RequestCycle requestCycle = RequestCycle.get();
+
+		if (requestCycle == null)
+		{
+			return Application.get().getConverterLocator().getConverter(type);
+		}
+
+		Converters converters = requestCycle.getMetaData(KEY);
+
+		if (converters == null)
+		{
+			converters = new Converters(Application.get().getConverterLocator());
+			requestCycle.setMetaData(KEY, converters);
+		}
+
+		return converters.get(type);
+	}
+
+	// Classes //
+
+	/**
+	 * Request cache of converters, by type<br>
+	 * <b>Note:</b> the converter resolution does not depend on the locale, which is only supplied on conversion
+	 */
+	private static class Converters
+	{
+		private final IConverterLocator locator;
+		private final Map<Class<?>, IConverter<?>> converters = Generics.newHashMap();
+
+		public Converters(IConverterLocator locator)
+		{
+			this.locator = locator;
+		}
+
+		@SuppressWarnings("unchecked")
+		public <T> IConverter<T> get(Class<T> type)
+		{
+			IConverter<?> converter = this.converters.get(type);
+
+			if (converter == null && !this.converters.containsKey(type))
+			{
+				converter = this.locator.getConverter(type);
+				this.converters.put(type, converter);
+			}
+
+			return (IConverter<T>) converter;
+		}
+	}
 }
@@ -127,7 +127,7 @@ public class ListUtils
 	 * @param list the {@link List} to search in
 	 * @return the list-item or {@code null} if not found
 	 */
-	public static synchronized <T> T fromHash(int hash, List<T> list)
+	public static <T> T fromHash(int hash, List<T> list)
 	{
 		int index = ListUtils.indexOf(hash, list);
 
@@ -146,7 +146,7 @@ public class ListUtils
 	 * @param hash the hashcode to match
 	 * @return the index of the item matching the hashcode or -1 if not found
 	 */
-	public static synchronized int indexOf(int hash, List<?> list)
+	public static int indexOf(int hash, List<?> list)
 	{
 		Iterator<?> iterator = list.iterator();
 
@@ -170,7 +170,7 @@ public class ListUtils
 	 * @param item the item
 	 * @param index the position to move to
 	 */
-	public static synchronized <T> void move(final T item, int index, final List<T> list)
+	public static <T> void move(final T item, int index, final List<T> list)
 	{
 		if (index < list.size())
 		{
@@ -178,6 +178,23 @@ public class ListUtils
 		}
 	}
 
+	/**
+	 * Utility method to move the list-item located at a position to a new position in the specified list<br>
+	 * The list is not locked, it is up to the caller to not share it across threads.
+	 *
+	 * @param <T> the object type
+	 * @param from the current position of the item
+	 * @param to the position to move to
+	 * @param list the {@link List}
+	 */
+	public static <T> void move(int from, int to, final List<T> list)
+	{
+		if (from != to)
+		{
+			list.add(to, list.remove(from));
+		}
+	}
+
 	/**
 	 * Returns a sub list of items of type T having their textual representation (toString()) containing the search criteria<br>
 	 * The max size of the sub list is {@link #MAX}
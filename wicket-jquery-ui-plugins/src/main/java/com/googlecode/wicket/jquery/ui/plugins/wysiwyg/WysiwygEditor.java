@@ -16,6 +16,8 @@
  */
 package com.googlecode.wicket.jquery.ui.plugins.wysiwyg;
 
+import java.util.Map;
+
 import org.apache.wicket.markup.ComponentTag;
 import org.apache.wicket.markup.head.IHeaderResponse;
 import org.apache.wicket.markup.head.OnLoadHeaderItem;
@@ -24,6 +26,7 @@ import org.apache.wicket.markup.html.form.Form;
 import org.apache.wicket.markup.html.form.FormComponentPanel;
 import org.apache.wicket.markup.html.form.HiddenField;
 import org.apache.wicket.model.IModel;
+import org.apache.wicket.util.lang.Generics;
 import org.owasp.html.HtmlPolicyBuilder;
 import org.owasp.html.PolicyFactory;
 
@@ -43,6 +46,19 @@ public class WysiwygEditor extends FormComponentPanel<String> implements IJQuery
 {
 	private static final long serialVersionUID = 1L;
 
+	/** the default policy; a {@link PolicyFactory} is immutable and thread-safe */
+	private static final PolicyFactory DEFAULT_POLICY = new HtmlPolicyBuilder() // lf
+			.allowCommonInlineFormattingElements() // lf
+			.allowCommonBlockElements() // lf
+			.allowElements("a").allowStandardUrlProtocols() // lf
+			.allowAttributes("href", "target").onElements("a") // lf
+			.allowAttributes("size").onElements("font") // lf
+			.allowAttributes("class", "style").globally() // lf
+			.toFactory();
+
+	/** shared policies, by policy key (see {@link #getPolicyKey()}) */
+	private static final Map<Object, PolicyFactory> POLICIES = Generics.newConcurrentHashMap();
+
 	private HiddenField<String> textarea;
 	private final WebMarkupContainer container;
 
@@ -112,12 +128,42 @@ public class WysiwygEditor extends FormComponentPanel<String> implements IJQuery
 		return this.container.getMarkupId();
 	}
 
+	/**
+	 * Gets the key under which the {@link PolicyFactory} returned by {@link #newPolicyFactory()} is shared by all instances<br>
+	 * Sharing is opt-in: the key should identify the policy itself (ie: a {@code String} id), and must not be supplied if {@link #newPolicyFactory()} depends on the component
+	 * state.
+	 *
+	 * @return {@code null} by default, meaning the policy is not shared
+	 */
+	protected Object getPolicyKey()
+	{
+		return null;
+	}
+
+	/**
+	 * Gets the {@link PolicyFactory} to sanitize editor input<br>
+	 * If {@link #getPolicyKey()} supplies a key, the factory is built once per key by {@link #newPolicyFactory()}, otherwise {@link #newPolicyFactory()} is called each time
+	 *
+	 * @return the {@code PolicyFactory}
+	 */
+	protected final PolicyFactory getPolicyFactory()
+	{
+		final Object key = this.getPolicyKey();
+
+		if (key != null)
+		{
+			return POLICIES.computeIfAbsent(key, k -> this.newPolicyFactory());
+		}
+
+		return this.newPolicyFactory();
+	}
+
 	// Methods //
 
 	@Override
 	public void convertInput()
 	{
-		final PolicyFactory policy = this.newPolicyFactory();
+		final PolicyFactory policy = this.getPolicyFactory();
 		final String input = this.textarea.getConvertedInput();
 
 		this.setConvertedInput(policy.sanitize(input));
@@ -188,19 +234,13 @@ public class WysiwygEditor extends FormComponentPanel<String> implements IJQuery
 	}
 
 	/**
-	 * Gets a new {@link PolicyFactory} to sanitize editor input
+	 * Gets a new {@link PolicyFactory} to sanitize editor input<br>
+	 * This is called on each conversion, unless the policy is shared (see {@link #getPolicyKey()})
 	 *
-	 * @return a new {@code PolicyFactory}
+	 * @return the default (immutable) {@code PolicyFactory} by default
 	 */
 	protected PolicyFactory newPolicyFactory()
 	{
-		return new HtmlPolicyBuilder() // lf
-				.allowCommonInlineFormattingElements() // lf
-				.allowCommonBlockElements() // lf
-				.allowElements("a").allowStandardUrlProtocols() // lf
-				.allowAttributes("href", "target").onElements("a") // lf
-				.allowAttributes("size").onElements("font") // lf
-				.allowAttributes("class", "style").globally() // lf
-				.toFactory();
+		return DEFAULT_POLICY;
 	}
 }
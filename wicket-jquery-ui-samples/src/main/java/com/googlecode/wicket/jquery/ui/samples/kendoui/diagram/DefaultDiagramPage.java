@@ -114,7 +114,7 @@ public class DefaultDiagramPage extends AbstractDiagramPage
 
 		private static IJsonConverter<AvatarNode> newConverter()
 		{
-			return new JsonConverter<AvatarNode>() {
+			return new JsonConverter<AvatarNode>(AvatarNode.class) {
 
 				private static final long serialVersionUID = 1L;
 
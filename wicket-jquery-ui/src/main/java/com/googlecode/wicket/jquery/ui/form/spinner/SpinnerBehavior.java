@@ -125,6 +125,12 @@ public class SpinnerBehavior extends JQueryUIBehavior implements IJQueryAjaxAwar
 			return new CallbackParameter[] { CallbackParameter.context("e"), CallbackParameter.context("ui"), CallbackParameter.resolved("value", "ui.value") };
 		}
 
+		@Override
+		protected boolean isQueueable()
+		{
+			return true;
+		}
+
 		@Override
 		protected JQueryEvent newEvent()
 		{
@@ -150,6 +156,12 @@ public class SpinnerBehavior extends JQueryUIBehavior implements IJQueryAjaxAwar
 			return new CallbackParameter[] { CallbackParameter.context("e"), CallbackParameter.context("ui") };
 		}
 
+		@Override
+		protected boolean isQueueable()
+		{
+			return true;
+		}
+
 		@Override
 		protected JQueryEvent newEvent()
 		{
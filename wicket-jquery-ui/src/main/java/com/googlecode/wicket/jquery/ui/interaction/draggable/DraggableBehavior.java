@@ -233,6 +233,12 @@ public class DraggableBehavior extends JQueryUIBehavior implements IJQueryAjaxAw
 			};
 		}
 
+		@Override
+		protected boolean isQueueable()
+		{
+			return true;
+		}
+
 		@Override
 		protected JQueryEvent newEvent()
 		{
@@ -264,6 +270,12 @@ public class DraggableBehavior extends JQueryUIBehavior implements IJQueryAjaxAw
 			};
 		}
 
+		@Override
+		protected boolean isQueueable()
+		{
+			return true;
+		}
+
 		@Override
 		protected JQueryEvent newEvent()
 		{
@@ -196,6 +196,12 @@ public class DroppableBehavior extends JQueryUIBehavior implements IJQueryAjaxAw
 			return new CallbackParameter[] { CallbackParameter.context("event"), CallbackParameter.context("ui") };
 		}
 
+		@Override
+		protected boolean isQueueable()
+		{
+			return true;
+		}
+
 		@Override
 		protected JQueryEvent newEvent()
 		{
@@ -221,6 +227,12 @@ public class DroppableBehavior extends JQueryUIBehavior implements IJQueryAjaxAw
 			return new CallbackParameter[] { CallbackParameter.context("event"), CallbackParameter.context("ui") };
 		}
 
+		@Override
+		protected boolean isQueueable()
+		{
+			return true;
+		}
+
 		@Override
 		protected JQueryEvent newEvent()
 		{
@@ -246,6 +258,12 @@ public class DroppableBehavior extends JQueryUIBehavior implements IJQueryAjaxAw
 			return new CallbackParameter[] { CallbackParameter.context("event"), CallbackParameter.context("ui") };
 		}
 
+		@Override
+		protected boolean isQueueable()
+		{
+			return true;
+		}
+
 		@Override
 		protected JQueryEvent newEvent()
 		{
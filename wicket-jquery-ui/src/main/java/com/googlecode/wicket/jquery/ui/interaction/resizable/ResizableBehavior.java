@@ -176,6 +176,12 @@ public class ResizableBehavior extends JQueryUIBehavior implements IJQueryAjaxAw
 					CallbackParameter.resolved("height", "ui.size.height") };
 		}
 
+		@Override
+		protected boolean isQueueable()
+		{
+			return true;
+		}
+
 		@Override
 		protected JQueryEvent newEvent()
 		{
@@ -206,6 +212,12 @@ public class ResizableBehavior extends JQueryUIBehavior implements IJQueryAjaxAw
 					CallbackParameter.resolved("height", "ui.size.height") };
 		}
 
+		@Override
+		protected boolean isQueueable()
+		{
+			return true;
+		}
+
 		@Override
 		protected JQueryEvent newEvent()
 		{
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.ui.interaction.sortable;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.wicket.util.io.IClusterable;
+import org.apache.wicket.util.lang.Generics;
+
+import com.googlecode.wicket.jquery.core.utils.ListUtils;
+
+/**
+ * Provides an index of the positions of list-items by hashcode (the {@code data-hash} attribute value of a {@link Sortable.HashListView} item)<br>
+ * The index is bound to a list instance: the first lookup in a list instance is a plain scan, the index is only built once the same instance is looked up again, then kept up
+ * to date by {@link #move(int, int, List)}. It is discarded whenever the list instance or its size changes, and rebuilt when the indexed position does not match anymore.<br>
+ * <br>
+ * <b>Note:</b> the index is not thread-safe, it is intended to be held by a component or a behavior, which are accessed under the page lock.<br>
+ * <b>Note:</b> if the list is provided by a detachable model (ie: reloaded on each request), lookups are served by a scan, as {@link ListUtils#indexOf(int, List)} would do;
+ * the index only pays off with a list instance that outlives the request.
+ *
+ * @param <T> the type of the list-items
+ * @author Sebastien Briquet - sebfz1
+ */
+public class HashIndex<T> implements IClusterable
+{
+	private static final long serialVersionUID = 1L;
+
+	/** the tracked list, lost on serialization */
+	private transient List<T> list = null;
+
+	/** the size of the tracked list */
+	private transient int size = 0;
+
+	/** hashcode to position, lost on serialization */
+	private transient Map<Integer, Integer> positions = null;
+
+	/**
+	 * Constructor
+	 */
+	public HashIndex()
+	{
+		// noop
+	}
+
+	// Methods //
+
+	/**
+	 * Gets the list-item matching the given hash
+	 *
+	 * @param hash the hashcode to match
+	 * @param list the {@link List} to search in
+	 * @return the list-item or {@code null} if not found
+	 */
+	public T get(int hash, List<T> list)
+	{
+		final int index = this.indexOf(hash, list);
+
+		if (index > -1)
+		{
+			return list.get(index);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Gets the index of the first list-item matching the specified hashcode
+	 *
+	 * @param hash the hashcode to match
+	 * @param list the {@link List} to search in
+	 * @return the index of the item matching the hashcode or -1 if not found
+	 */
+	public int indexOf(int hash, List<T> list)
+	{
+		if (this.isStale(list))
+		{
+			this.track(list); // new list instance, an index would be built for a single lookup
+
+			return ListUtils.indexOf(hash, list);
+		}
+
+		if (this.positions == null)
+		{
+			this.build(list); // same list instance looked up again
+		}
+
+		Integer index = this.positions.get(hash);
+
+		if (index == null || list.get(index).hashCode() != hash)
+		{
+			this.build(list); // list-items may have changed in place; try once again
+
+			index = this.positions.get(hash);
+		}
+
+		return index != null ? index : -1;
+	}
+
+	/**
+	 * Moves the list-item located at a position to a new position, and updates the positions in between
+	 *
+	 * @param from the current position of the item
+	 * @param to the position to move to
+	 * @param list the {@link List}
+	 */
+	public void move(int from, int to, List<T> list)
+	{
+		ListUtils.move(from, to, list);
+
+		if (this.isStale(list))
+		{
+			this.track(list);
+		}
+		else if (this.positions != null && this.positions.size() != list.size())
+		{
+			this.positions = null; // duplicate hashcodes
+		}
+		else if (this.positions != null)
+		{
+			for (int i = Math.min(from, to); i <= Math.max(from, to); i++)
+			{
+				this.positions.put(list.get(i).hashCode(), i);
+			}
+		}
+	}
+
+	/**
+	 * Discards the index, so it will be rebuilt on next use
+	 */
+	public void invalidate()
+	{
+		this.list = null;
+		this.positions = null;
+	}
+
+	// Helpers //
+
+	/**
+	 * Indicates whether the supplied list is not the tracked one
+	 *
+	 * @param list the {@link List}
+	 * @return {@code true} or {@code false}
+	 */
+	private boolean isStale(List<T> list)
+	{
+		return this.list != list || this.size != list.size();
+	}
+
+	/**
+	 * Tracks a new list instance, without indexing it yet
+	 *
+	 * @param list the {@link List}
+	 */
+	private void track(List<T> list)
+	{
+		this.list = list;
+		this.size = list.size();
+		this.positions = null;
+	}
+
+	/**
+	 * Builds the index
+	 *
+	 * @param list the {@link List}
+	 */
+	private void build(List<T> list)
+	{
+		this.positions = Generics.newHashMap(this.size);
+
+		for (int i = 0; i < this.size; i++)
+		{
+			this.positions.putIfAbsent(list.get(i).hashCode(), i); // first occurrence wins, as ListUtils#indexOf
+		}
+	}
+}
@@ -55,6 +55,9 @@ public abstract class Sortable<T> extends JQueryGenericContainer<List<T>> implem
 	 */
 	private Sortable<T> connectedSortable = null;
 
+	/** index of the model object's items */
+	private final HashIndex<T> index = new HashIndex<T>();
+
 	/**
 	 * Constructor
 	 *
@@ -133,8 +136,16 @@ public abstract class Sortable<T> extends JQueryGenericContainer<List<T>> implem
 	@Override
 	public void onUpdate(AjaxRequestTarget target, T item, int index)
 	{
+		final List<T> list = this.getModelObject();
+		final int from = this.index.indexOf(item.hashCode(), list);
+
 		this.modelChanging();
-		ListUtils.move(item, index, this.getModelObject()); // why is it called by sender if moving to receiver?
+
+		if (from > -1 && index < list.size())
+		{
+			this.index.move(from, index, list); // why is it called by sender if moving to receiver?
+		}
+
 		this.modelChanged();
 	}
 
@@ -216,7 +227,7 @@ public abstract class Sortable<T> extends JQueryGenericContainer<List<T>> implem
 
 	/**
 	 * Helper method to locate an item in a list by identifier.<br>
-	 * By default, uses item's hashcode as identifier.
+	 * By default, uses item's hashcode as identifier, resolved through the {@link HashIndex} of the {@link Sortable} owning the list.
 	 *
 	 * @param id the item id
 	 * @param list the list of items
@@ -225,6 +236,16 @@ public abstract class Sortable<T> extends JQueryGenericContainer<List<T>> implem
 	 */
 	protected T findItem(String id, List<T> list)
 	{
+		if (list == this.getModelObject())
+		{
+			return this.index.get(Integer.parseInt(id), list);
+		}
+
+		if (this.connectedSortable != null && list == this.connectedSortable.getModelObject())
+		{
+			return this.connectedSortable.findItem(id, list);
+		}
+
 		return ListUtils.fromHash(Integer.parseInt(id), list);
 	}
 
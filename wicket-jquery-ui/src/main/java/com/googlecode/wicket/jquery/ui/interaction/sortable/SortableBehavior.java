@@ -28,7 +28,6 @@ import com.googlecode.wicket.jquery.core.JQueryEvent;
 import com.googlecode.wicket.jquery.core.Options;
 import com.googlecode.wicket.jquery.core.ajax.IJQueryAjaxAware;
 import com.googlecode.wicket.jquery.core.ajax.JQueryAjaxBehavior;
-import com.googlecode.wicket.jquery.core.utils.ListUtils;
 import com.googlecode.wicket.jquery.core.utils.RequestCycleUtils;
 import com.googlecode.wicket.jquery.ui.JQueryUIBehavior;
 import com.googlecode.wicket.jquery.ui.interaction.selectable.SelectableBehavior;
@@ -51,6 +50,12 @@ public abstract class SortableBehavior<T> extends JQueryUIBehavior implements IJ
 	private JQueryAjaxBehavior onReceiveAjaxBehavior = null;
 	private JQueryAjaxBehavior onRemoveAjaxBehavior = null;
 
+	/** index of the item list */
+	private final HashIndex<T> itemIndex = new HashIndex<T>();
+
+	/** index of the connected list */
+	private final HashIndex<T> connectedIndex = new HashIndex<T>();
+
 	/**
 	 * Constructor
 	 *
@@ -127,7 +132,7 @@ public abstract class SortableBehavior<T> extends JQueryUIBehavior implements IJ
 
 	/**
 	 * Helper method to locate an item in a list by identifier.<br>
-	 * By default, uses item's hashcode as identifier.
+	 * By default, uses item's hashcode as identifier, resolved through a {@link HashIndex}.
 	 *
 	 * @param id the item id
 	 * @param list the list of items
@@ -136,7 +141,9 @@ public abstract class SortableBehavior<T> extends JQueryUIBehavior implements IJ
 	 */
 	protected T findItem(String id, List<T> list)
 	{
-		return ListUtils.fromHash(Integer.parseInt(id), list);
+		final HashIndex<T> index = list == this.getItemList() ? this.itemIndex : this.connectedIndex;
+
+		return index.get(Integer.parseInt(id), list);
 	}
 
 	// Events //
@@ -31,6 +31,7 @@ import com.googlecode.wicket.jquery.core.IJQueryWidget;
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
 import com.googlecode.wicket.jquery.core.Options;
 import com.googlecode.wicket.jquery.core.ajax.IJQueryAjaxAware;
+import com.googlecode.wicket.jquery.core.behavior.DeferredContentBehavior;
 import com.googlecode.wicket.jquery.core.behavior.DisplayNoneBehavior;
 import com.googlecode.wicket.jquery.ui.widget.dialog.ButtonAjaxBehavior.ClickEvent;
 
@@ -68,6 +69,9 @@ public abstract class AbstractDialog<T extends Serializable> extends GenericPane
 	private boolean modal;
 	private DialogBehavior widgetBehavior;
 
+	/** the deferred content behavior, if the content is deferred */
+	private DeferredContentBehavior contentBehavior = null;
+
 	/** Default button */
 	private final DialogButton btnOk = new DialogButton(OK, LBL_OK);
 
@@ -183,6 +187,12 @@ public abstract class AbstractDialog<T extends Serializable> extends GenericPane
 		// warning: ButtonAjaxBehavior(s) should be set at this point!
 		this.widgetBehavior = (DialogBehavior) JQueryWidget.newWidgetBehavior(this);
 		this.add(this.widgetBehavior);
+
+		if (this.isContentDeferred())
+		{
+			this.contentBehavior = new DeferredContentBehavior();
+			this.add(this.contentBehavior);
+		}
 	}
 
 	@Override
@@ -331,6 +341,29 @@ public abstract class AbstractDialog<T extends Serializable> extends GenericPane
 		return false;
 	}
 
+	/**
+	 * Indicates whether the dialog content is deferred<br>
+	 * If {@code true}, the content is only rendered as placeholders with the page, and is rendered through ajax the first time the dialog opens
+	 *
+	 * @return {@code false} by default
+	 * @see DeferredContentBehavior
+	 */
+	protected boolean isContentDeferred()
+	{
+		return false;
+	}
+
+	/**
+	 * Indicates whether the deferred content is unloaded - rendered back as placeholders - when the dialog is closed on the server side
+	 *
+	 * @return {@code false} by default
+	 * @see #isContentDeferred()
+	 */
+	protected boolean isContentUnloadedOnClose()
+	{
+		return false;
+	}
+
 	@Override
 	public boolean isDefaultCloseEventEnabled()
 	{
@@ -371,6 +404,11 @@ public abstract class AbstractDialog<T extends Serializable> extends GenericPane
 	 */
 	public final void open(IPartialPageRequestHandler handler)
 	{
+		if (this.contentBehavior != null)
+		{
+			this.contentBehavior.load(handler);
+		}
+
 		this.onOpen(handler);
 
 		if (this.widgetBehavior != null)
@@ -393,6 +431,11 @@ public abstract class AbstractDialog<T extends Serializable> extends GenericPane
 		}
 
 		this.onClose(handler, button);
+
+		if (this.contentBehavior != null && this.isContentUnloadedOnClose())
+		{
+			this.contentBehavior.unload(handler);
+		}
 	}
 
 	// IJQueryWidget //
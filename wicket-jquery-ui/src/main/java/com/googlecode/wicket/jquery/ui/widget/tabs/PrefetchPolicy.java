@@ -0,0 +1,32 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.ui.widget.tabs;
+
+/**
+ * Provides the policies for prefetching {@link AjaxTab}{@code s}, before they get activated
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+public enum PrefetchPolicy
+{
+	/** The {@link AjaxTab} is loaded when activated (default) */
+	NONE,
+	/** The {@link AjaxTab}{@code s} adjacent to the active one are loaded as soon as the browser is idle */
+	IDLE,
+	/** The {@link AjaxTab} is loaded as soon as its title is hovered */
+	HOVER
+}
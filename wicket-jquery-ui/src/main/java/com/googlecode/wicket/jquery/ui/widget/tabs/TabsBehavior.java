@@ -17,6 +17,7 @@
 package com.googlecode.wicket.jquery.ui.widget.tabs;
 
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 import org.apache.wicket.Component;
@@ -24,6 +25,7 @@ import org.apache.wicket.ajax.AjaxRequestTarget;
 import org.apache.wicket.ajax.attributes.CallbackParameter;
 import org.apache.wicket.core.request.handler.IPartialPageRequestHandler;
 import org.apache.wicket.extensions.markup.html.tabs.ITab;
+import org.apache.wicket.markup.head.IHeaderResponse;
 import org.apache.wicket.util.lang.Args;
 import org.apache.wicket.util.lang.Generics;
 
@@ -50,6 +52,13 @@ public abstract class TabsBehavior extends JQueryUIBehavior implements IJQueryAj
 	private JQueryAjaxBehavior onCreateAjaxBehavior = null;
 	private JQueryAjaxBehavior onActivateAjaxBehavior = null;
 	private JQueryAjaxBehavior onActivatingAjaxBehavior = null;
+	private JQueryAjaxBehavior onPrefetchAjaxBehavior = null;
+
+	/** loaded {@link AjaxTab}{@code s}, least recently used first */
+	private final List<AjaxTab> loaded = Generics.newArrayList();
+
+	/** the active tab, which is never unloaded */
+	private ITab active = null;
 
 	/**
 	 * Constructor
@@ -106,6 +115,27 @@ public abstract class TabsBehavior extends JQueryUIBehavior implements IJQueryAj
 		return Collections.unmodifiableList(list);
 	}
 
+	/**
+	 * Gets the {@link PrefetchPolicy} of the {@link AjaxTab}{@code s}
+	 *
+	 * @return {@link PrefetchPolicy#NONE} by default
+	 */
+	protected PrefetchPolicy getPrefetchPolicy()
+	{
+		return PrefetchPolicy.NONE;
+	}
+
+	/**
+	 * Gets the maximum number of {@link AjaxTab}{@code s} that can be loaded at once<br>
+	 * When exceeded, the least recently activated (or prefetched) {@link AjaxTab} is unloaded.
+	 *
+	 * @return {@link Integer#MAX_VALUE} by default
+	 */
+	protected int getMaxLoadedTabs()
+	{
+		return Integer.MAX_VALUE;
+	}
+
 	// Methods //
 
 	@Override
@@ -130,6 +160,81 @@ public abstract class TabsBehavior extends JQueryUIBehavior implements IJQueryAj
 			this.onActivatingAjaxBehavior = this.newOnActivatingAjaxBehavior(this);
 			component.add(this.onActivatingAjaxBehavior);
 		}
+
+		if (this.getPrefetchPolicy() != PrefetchPolicy.NONE)
+		{
+			this.onPrefetchAjaxBehavior = this.newOnPrefetchAjaxBehavior(this);
+			component.add(this.onPrefetchAjaxBehavior);
+		}
+	}
+
+	@Override
+	public void renderHead(Component component, IHeaderResponse response)
+	{
+		super.renderHead(component, response);
+
+		if (this.onPrefetchAjaxBehavior != null)
+		{
+			this.renderOnDomReadyScript(this.getPrefetchStatement(this.onPrefetchAjaxBehavior.getCallbackFunction()), response);
+		}
+	}
+
+	/**
+	 * Loads the {@link AjaxTab}, and unloads the least recently used ones if the {@link #getMaxLoadedTabs()} is exceeded<br>
+	 * The active tab is never unloaded, and unloaded tabs are rendered back to their loading indicator
+	 *
+	 * @param tab the {@link AjaxTab}
+	 * @param target the {@link AjaxRequestTarget}
+	 */
+	protected void load(AjaxTab tab, AjaxRequestTarget target)
+	{
+		tab.load(target);
+
+		this.loaded.retainAll(this.getTabs()); // tabs may have been reloaded
+		this.loaded.remove(tab);
+		this.loaded.add(tab);
+
+		for (Iterator<AjaxTab> iterator = this.loaded.iterator(); iterator.hasNext() && this.loaded.size() > Math.max(1, this.getMaxLoadedTabs());)
+		{
+			AjaxTab lru = iterator.next();
+
+			if (lru != this.active) // the content of the active tab is displayed
+			{
+				iterator.remove();
+				lru.unload(target);
+			}
+		}
+	}
+
+	/**
+	 * Gets the javascript statement that triggers the prefetch, according to the {@link PrefetchPolicy}
+	 *
+	 * @param callback the prefetch callback function, taking the tab index as argument
+	 * @return the javascript statement
+	 */
+	private String getPrefetchStatement(String callback)
+	{
+		final StringBuilder builder = new StringBuilder("(function($tabs, callback) { ");
+		builder.append("var done = {}; ");
+		builder.append("var prefetch = function(index) { if (index > -1 && !done[index]) { done[index] = true; callback(index); } }; ");
+
+		switch (this.getPrefetchPolicy())
+		{
+		case IDLE:
+			builder.append("var idle = window.requestIdleCallback || function(fn) { return setTimeout(fn, 1); }; ");
+			builder.append("var adjacent = function() { var index = $tabs.tabs('option', 'active'); idle(function() { prefetch(index - 1); prefetch(index + 1); }); }; ");
+			builder.append("$tabs.on('tabsactivate', adjacent); adjacent(); ");
+			break;
+
+		case HOVER:
+			builder.append("$tabs.children('ul').first().children('li').on('mouseenter', function() { prefetch(jQuery(this).index()); }); ");
+			break;
+
+		default:
+			break;
+		}
+
+		return builder.append("})(jQuery('").append(this.getSelector()).append("'), ").append(callback).append(");").toString();
 	}
 
 	/**
@@ -211,6 +316,17 @@ public abstract class TabsBehavior extends JQueryUIBehavior implements IJQueryAj
 	@Override
 	public void onAjax(AjaxRequestTarget target, JQueryEvent event)
 	{
+		if (event instanceof PrefetchEvent)
+		{
+			int index = ((PrefetchEvent) event).getIndex();
+			final List<ITab> tabs = this.getVisibleTabs();
+
+			if (-1 < index && index < tabs.size() && tabs.get(index) instanceof AjaxTab)
+			{
+				this.load((AjaxTab) tabs.get(index), target);
+			}
+		}
+
 		if (event instanceof ActivateEvent)
 		{
 			int index = ((ActivateEvent) event).getIndex();
@@ -219,10 +335,11 @@ public abstract class TabsBehavior extends JQueryUIBehavior implements IJQueryAj
 			if (-1 < index && index < tabs.size()) /* index could be unknown depending on options and user action */
 			{
 				ITab tab = tabs.get(index);
+				this.active = tab;
 
 				if (tab instanceof AjaxTab)
 				{
-					((AjaxTab) tab).load(target);
+					this.load((AjaxTab) tab, target);
 				}
 
 				if (event instanceof ActivatingEvent)
@@ -261,6 +378,18 @@ public abstract class TabsBehavior extends JQueryUIBehavior implements IJQueryAj
 		return new OnActivatingAjaxBehavior(source);
 	}
 
+	/**
+	 * Gets a new {@link JQueryAjaxBehavior} that will be called to prefetch an {@link AjaxTab}
+	 *
+	 * @param source the {@link IJQueryAjaxAware}
+	 * @return a new {@code OnPrefetchAjaxBehavior} by default
+	 * @see #getPrefetchPolicy()
+	 */
+	protected JQueryAjaxBehavior newOnPrefetchAjaxBehavior(IJQueryAjaxAware source)
+	{
+		return new OnPrefetchAjaxBehavior(source);
+	}
+
 	// Ajax classes //
 
 	/**
@@ -328,6 +457,31 @@ public abstract class TabsBehavior extends JQueryUIBehavior implements IJQueryAj
 		}
 	}
 
+	/**
+	 * Provides a {@link JQueryAjaxBehavior} that aims to be called to prefetch an {@link AjaxTab}
+	 */
+	protected static class OnPrefetchAjaxBehavior extends TabAjaxBehavior
+	{
+		private static final long serialVersionUID = 1L;
+
+		public OnPrefetchAjaxBehavior(IJQueryAjaxAware source)
+		{
+			super(source);
+		}
+
+		@Override
+		protected CallbackParameter[] getCallbackParameters()
+		{
+			return new CallbackParameter[] { CallbackParameter.explicit("index") };
+		}
+
+		@Override
+		protected JQueryEvent newEvent()
+		{
+			return new PrefetchEvent();
+		}
+	}
+
 	// Event objects //
 
 	/**
@@ -371,4 +525,11 @@ public abstract class TabsBehavior extends JQueryUIBehavior implements IJQueryAj
 	protected static class ActivatingEvent extends ActivateEvent
 	{
 	}
+
+	/**
+	 * Provides an event object that will be broadcasted by the {@link OnPrefetchAjaxBehavior} callback
+	 */
+	protected static class PrefetchEvent extends TabEvent
+	{
+	}
 }
@@ -20,13 +20,16 @@ import org.apache.wicket.AttributeModifier;
 import org.apache.wicket.Component;
 import org.apache.wicket.core.util.string.ComponentRenderer;
 import org.apache.wicket.markup.html.WebMarkupContainer;
+import org.apache.wicket.model.IModel;
 import com.github.openjson.JSONObject;
 
 import com.googlecode.wicket.jquery.core.IJQueryWidget.JQueryWidget;
 import com.googlecode.wicket.jquery.core.Options;
+import com.googlecode.wicket.jquery.core.behavior.ContentModelBehavior;
 
 /**
  * Provides the jQuery tooltip behavior, with custom content.<br>
+ * The content can also be loaded on demand, see {@link #isLazy()}<br>
  * <br>
  * <b>Warning:</b> there is no selector supplied to the constructor, but it does not means that this behavior will be applied to the <i>document</i>, like for the {@link TooltipBehavior}. The selector will be retrieved from the component
  * this behavior will be bound to, because this is a mandatory condition.
@@ -41,6 +44,9 @@ public abstract class CustomTooltipBehavior extends TooltipBehavior
 	/** The component id which will be used for the custom tooltip markup-container */
 	private static final String CONTENT_ID = "tooltip";
 
+	/** The content callback, if the tooltip is lazy */
+	private ContentModelBehavior contentBehavior = null;
+
 	/**
 	 * Constructor
 	 */
@@ -68,7 +74,40 @@ public abstract class CustomTooltipBehavior extends TooltipBehavior
 
 		this.selector = JQueryWidget.getSelector(component);
 		this.setOption("items", Options.asString("[data-tooltip]"));
-		this.setOption("content", String.format("function() { return %s; }", this.render(this.newContent(CONTENT_ID))));
+
+		if (this.isLazy())
+		{
+			this.contentBehavior = this.newContentBehavior();
+			component.add(this.contentBehavior);
+		}
+		else
+		{
+			this.setOption("content", String.format("function() { return %s; }", this.render(this.newContent(CONTENT_ID))));
+		}
+	}
+
+	// Properties //
+
+	/**
+	 * Indicates whether the tooltip content is loaded on demand<br>
+	 * If {@code true}, the content is rendered by a callback the first time the tooltip opens, and then cached per target on the client side (see also {@link #getContentKey()})
+	 *
+	 * @return {@code false} by default
+	 */
+	protected boolean isLazy()
+	{
+		return false;
+	}
+
+	/**
+	 * Gets the key identifying the current content, ie: the id of the model object<br>
+	 * If {@link #isLazy()} and a key is supplied, the rendered content is also cached on the server side, as long as the key does not change
+	 *
+	 * @return {@code null} by default
+	 */
+	protected Object getContentKey()
+	{
+		return null;
 	}
 
 	// Methods //
@@ -105,6 +144,19 @@ public abstract class CustomTooltipBehavior extends TooltipBehavior
 		return JSONObject.quote(content);
 	}
 
+	// Events //
+
+	@Override
+	public void onConfigure(Component component)
+	{
+		if (this.contentBehavior != null)
+		{
+			this.setOption("content", String.format("function(callback) { var $t = jQuery(this), c = $t.data('wicket-tooltip-content'); if (c !== undefined) { return c; } jQuery.get(%s, function(data) { $t.data('wicket-tooltip-content', data); callback(data); }); }", JSONObject.quote(this.contentBehavior.getCallbackUrl().toString())));
+		}
+
+		super.onConfigure(component);
+	}
+
 	@Override
 	protected String $()
 	{
@@ -127,4 +179,36 @@ public abstract class CustomTooltipBehavior extends TooltipBehavior
 	{
 		return String.format("jQuery(document).%s(%s);", method, options);
 	}
+
+	// Factories //
+
+	/**
+	 * Gets a new {@link ContentModelBehavior} that renders the tooltip content on demand
+	 *
+	 * @return a new {@code ContentModelBehavior}
+	 */
+	protected ContentModelBehavior newContentBehavior()
+	{
+		final IModel<String> model = new IModel<String>() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public String getObject()
+			{
+				return String.valueOf(ComponentRenderer.renderComponent(CustomTooltipBehavior.this.newContent(CONTENT_ID)));
+			}
+		};
+
+		return new ContentModelBehavior(model) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected Object getContentKey()
+			{
+				return CustomTooltipBehavior.this.getContentKey();
+			}
+		};
+	}
 }
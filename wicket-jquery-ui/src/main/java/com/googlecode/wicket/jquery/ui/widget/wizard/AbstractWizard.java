@@ -43,7 +43,8 @@ import com.googlecode.wicket.jquery.ui.widget.dialog.AbstractFormDialog;
 import com.googlecode.wicket.jquery.ui.widget.dialog.DialogButton;
 
 /**
- * Provides the base class for wizard-based dialogs
+ * Provides the base class for wizard-based dialogs<br>
+ * The wizard can be initialized with a {@link CompactWizardModel}, so only the active step is kept in the component tree (and serialized with the page)
  *
  * @author Sebastien Briquet - sebfz1
  *
@@ -0,0 +1,425 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.jquery.ui.widget.wizard;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.wicket.Component;
+import org.apache.wicket.MarkupContainer;
+import org.apache.wicket.extensions.wizard.AbstractWizardModel;
+import org.apache.wicket.extensions.wizard.IWizardStep;
+import org.apache.wicket.extensions.wizard.WizardModel;
+import org.apache.wicket.extensions.wizard.WizardModel.ICondition;
+import org.apache.wicket.markup.html.form.FormComponent;
+import org.apache.wicket.util.lang.Args;
+import org.apache.wicket.util.lang.Generics;
+
+/**
+ * Provides a wizard model that only keeps the active step materialized<br>
+ * Steps are supplied as {@link IWizardStepFactory}{@code s}: the active step is built when it becomes active, and when another step becomes active, it is reduced to a compact
+ * {@link StepState} - its completeness and the model objects of its form components - before being released. The state is restored into the rebuilt step when it becomes active
+ * again. Therefore, inactive steps do not take part in the page serialization.<br>
+ * <br>
+ * <b>Example</b>
+ *
+ * <pre>
+ * CompactWizardModel model = new CompactWizardModel();
+ * model.add(Step1::new);
+ * model.add(Step2::new);
+ * </pre>
+ *
+ * <b>Note:</b> only the form components created by the step constructor are restored, and only if the rebuilt step still displays the value it had when it was first built
+ * (see {@link StepState#restore(IWizardStep)}). Therefore, form components bound to a shared model (ie: a {@code CompoundPropertyModel} of the wizard) keep the shared value if
+ * it has been changed since.
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+public class CompactWizardModel extends AbstractWizardModel
+{
+	private static final long serialVersionUID = 1L;
+
+	private final List<IWizardStepFactory> factories = Generics.newArrayList();
+	private final List<ICondition> conditions = Generics.newArrayList();
+	private final List<StepState> states = Generics.newArrayList();
+	private final List<Boolean> completes = Generics.newArrayList(); // completeness of unvisited steps
+	private final ArrayDeque<Integer> history = new ArrayDeque<>();
+
+	/** the active step, its index and its form component values when built */
+	private IWizardStep activeStep = null;
+	private int index = -1;
+	private Map<String, Object> initial = null;
+
+	/**
+	 * Constructor
+	 */
+	public CompactWizardModel()
+	{
+		super();
+	}
+
+	// Methods //
+
+	/**
+	 * Adds the next step to the wizard
+	 *
+	 * @param factory the {@link IWizardStepFactory}
+	 */
+	public void add(IWizardStepFactory factory)
+	{
+		this.add(factory, WizardModel.TRUE);
+	}
+
+	/**
+	 * Adds an optional step to the wizard
+	 *
+	 * @param factory the {@link IWizardStepFactory}
+	 * @param condition the {@link ICondition} under which the step is available
+	 */
+	public void add(IWizardStepFactory factory, ICondition condition)
+	{
+		this.factories.add(Args.notNull(factory, "factory"));
+		this.conditions.add(Args.notNull(condition, "condition"));
+		this.states.add(null);
+		this.completes.add(null);
+	}
+
+	@Override
+	public void reset()
+	{
+		this.history.clear();
+		this.activeStep = null;
+		this.index = -1;
+		this.initial = null;
+
+		for (int i = 0; i < this.states.size(); i++)
+		{
+			this.states.set(i, null);
+			this.completes.set(i, null);
+		}
+
+		this.setActiveStep(this.findNextVisibleStep());
+	}
+
+	@Override
+	public void next()
+	{
+		this.history.push(this.index);
+		this.setActiveStep(this.findNextVisibleStep());
+	}
+
+	@Override
+	public void previous()
+	{
+		this.setActiveStep(this.history.pop());
+	}
+
+	@Override
+	public void last()
+	{
+		this.history.push(this.index);
+		this.setActiveStep(this.findLastStep());
+	}
+
+	/**
+	 * Sets the active step<br>
+	 * The current step is reduced to its {@link StepState}, then the new step is built and its state - if any - is restored
+	 *
+	 * @param index the index of the step
+	 */
+	protected void setActiveStep(int index)
+	{
+		if (this.activeStep != null && this.index == index)
+		{
+			return;
+		}
+
+		if (this.activeStep != null)
+		{
+			this.states.set(this.index, StepState.of(this.activeStep, this.initial));
+		}
+
+		this.index = index;
+		this.activeStep = this.newStep(index);
+		this.initial = StepState.valuesOf(this.activeStep);
+		this.completes.set(index, null);
+
+		final StepState state = this.states.set(index, null);
+
+		if (state != null)
+		{
+			state.restore(this.activeStep);
+		}
+
+		this.fireActiveStepChanged(this.activeStep);
+	}
+
+	// Properties //
+
+	@Override
+	public IWizardStep getActiveStep()
+	{
+		return this.activeStep;
+	}
+
+	@Override
+	public boolean isLastStep(IWizardStep step)
+	{
+		return step != null && step == this.activeStep && this.index == this.findLastStep();
+	}
+
+	@Override
+	public boolean isLastAvailable()
+	{
+		return this.allStepsComplete() && !this.isLastStep(this.activeStep);
+	}
+
+	@Override
+	public boolean isNextAvailable()
+	{
+		return this.activeStep.isComplete() && !this.isLastStep(this.activeStep);
+	}
+
+	@Override
+	public boolean isPreviousAvailable()
+	{
+		return !this.history.isEmpty();
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * <b>Note:</b> inactive steps are built for the occasion
+	 */
+	@Override
+	public Iterator<IWizardStep> stepIterator()
+	{
+		final List<IWizardStep> steps = Generics.newArrayList();
+
+		for (int i = 0; i < this.conditions.size(); i++)
+		{
+			if (this.conditions.get(i).evaluate())
+			{
+				steps.add(i == this.index ? this.activeStep : this.newStep(i));
+			}
+		}
+
+		return steps.iterator();
+	}
+
+	// Helpers //
+
+	/**
+	 * Indicates whether all steps are complete<br>
+	 * The completeness of an inactive step is read from its {@link StepState}, or - if it has not been visited yet - from a step built once for the occasion
+	 *
+	 * @return {@code true} or {@code false}
+	 */
+	protected final boolean allStepsComplete()
+	{
+		for (int i = 0; i < this.factories.size(); i++)
+		{
+			final boolean complete;
+
+			if (i == this.index)
+			{
+				complete = this.activeStep.isComplete();
+			}
+			else if (this.states.get(i) != null)
+			{
+				complete = this.states.get(i).isComplete();
+			}
+			else
+			{
+				if (this.completes.get(i) == null)
+				{
+					this.completes.set(i, this.newStep(i).isComplete());
+				}
+
+				complete = this.completes.get(i);
+			}
+
+			if (!complete)
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Gets the index of the last visible step
+	 *
+	 * @return the index
+	 */
+	private int findLastStep()
+	{
+		for (int i = this.conditions.size() - 1; i >= 0; i--)
+		{
+			if (this.conditions.get(i).evaluate())
+			{
+				return i;
+			}
+		}
+
+		throw new IllegalStateException("Wizard contains no visible steps");
+	}
+
+	/**
+	 * Gets the index of the next visible step
+	 *
+	 * @return the index
+	 */
+	private int findNextVisibleStep()
+	{
+		for (int i = this.index + 1; i < this.conditions.size(); i++)
+		{
+			if (this.conditions.get(i).evaluate())
+			{
+				return i;
+			}
+		}
+
+		throw new IllegalStateException("Wizard contains no more visible steps");
+	}
+
+	// Factories //
+
+	/**
+	 * Gets a new {@link IWizardStep}, initialized with this model
+	 *
+	 * @param index the index of the step
+	 * @return a new {@code IWizardStep}
+	 */
+	protected IWizardStep newStep(int index)
+	{
+		final IWizardStep step = this.factories.get(index).newStep();
+		step.init(this);
+
+		return step;
+	}
+
+	// Classes //
+
+	/**
+	 * Provides the compact state of an inactive step: its completeness and the (serializable) model objects of its form components, by relative path, along with the values they
+	 * had when the step was built
+	 */
+	public static class StepState implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final boolean complete;
+		private final Map<String, Object> values;
+		private final Map<String, Object> initial;
+
+		/**
+		 * Gets the {@link StepState} of the supplied step
+		 *
+		 * @param step the {@link IWizardStep}
+		 * @param initial the values of the form components when the step was built (see {@link #valuesOf(IWizardStep)}), or {@code null} if unknown
+		 * @return the {@code StepState}
+		 */
+		public static StepState of(IWizardStep step, Map<String, Object> initial)
+		{
+			return new StepState(step.isComplete(), valuesOf(step), initial != null ? initial : Generics.<String, Object> newHashMap());
+		}
+
+		/**
+		 * Gets the (serializable) model objects of the form components of the supplied step, by relative path
+		 *
+		 * @param step the {@link IWizardStep}
+		 * @return the {@code Map} of values
+		 */
+		public static Map<String, Object> valuesOf(IWizardStep step)
+		{
+			final Map<String, Object> values = Generics.newHashMap();
+
+			if (step instanceof MarkupContainer)
+			{
+				final MarkupContainer container = (MarkupContainer) step;
+				final int offset = container.getPath().length() + 1;
+
+				container.visitChildren(FormComponent.class, (component, visit) -> {
+
+					if (component.getDefaultModel() != null)
+					{
+						final Object object = component.getDefaultModelObject();
+
+						if (object == null || object instanceof Serializable)
+						{
+							values.put(component.getPath().substring(offset), object);
+						}
+					}
+				});
+			}
+
+			return values;
+		}
+
+		private StepState(boolean complete, Map<String, Object> values, Map<String, Object> initial)
+		{
+			this.complete = complete;
+			this.values = values;
+			this.initial = initial;
+		}
+
+		/**
+		 * Indicates whether the step was complete
+		 *
+		 * @return {@code true} or {@code false}
+		 */
+		public boolean isComplete()
+		{
+			return this.complete;
+		}
+
+		/**
+		 * Restores the model objects into the form components of the supplied (rebuilt) step<br>
+		 * A value is only restored if the component still displays the value it had when the step was first built, ie: its model is owned by the step and has been reset by the
+		 * rebuild. A different value means the model is shared and has been changed since the state was taken, so the newer value is kept.
+		 *
+		 * @param step the {@link IWizardStep}
+		 */
+		public void restore(IWizardStep step)
+		{
+			if (step instanceof MarkupContainer)
+			{
+				final MarkupContainer container = (MarkupContainer) step;
+
+				for (Map.Entry<String, Object> entry : this.values.entrySet())
+				{
+					final Component component = container.get(entry.getKey());
+
+					if (component instanceof FormComponent && component.getDefaultModel() != null)
+					{
+						final Object current = component.getDefaultModelObject();
+
+						if (!Objects.equals(current, entry.getValue()) && Objects.equals(current, this.initial.get(entry.getKey())))
+						{
+							component.setDefaultModelObject(entry.getValue());
+						}
+					}
+				}
+			}
+		}
+	}
+}
@@ -16,7 +16,11 @@
  */
 package com.googlecode.wicket.kendo.ui;
 
+import java.util.Collections;
 import java.util.Locale;
+import java.util.Map;
+
+import org.apache.wicket.util.lang.Generics;
 
 /**
  * Provides all Kendo UI supported culture identifiers
@@ -885,6 +889,9 @@ public enum KendoCulture
 	ZU_ZA("zu-ZA"), // lf
 	ZU("zu");
 
+	/** index of cultures, by lower-cased culture identifier */
+	private static final Map<String, KendoCulture> INDEX = KendoCulture.newIndex();
+
 	private final String culture;
 
 	/**
@@ -919,19 +926,42 @@ public enum KendoCulture
 	 * @return {@code true} or {@code false}
 	 */
 	public static boolean exists(String culture)
+	{
+		return KendoCulture.find(culture) != null;
+	}
+
+	/**
+	 * Gets the {@link KendoCulture} corresponding to the specified culture (case insensitive)
+	 * 
+	 * @param culture the culture, ie: 'fr' or 'fr-FR'
+	 * @return the {@link KendoCulture}, or {@code null} if not supported
+	 */
+	public static KendoCulture find(String culture)
 	{
 		if (culture != null)
 		{
-			for (KendoCulture c : KendoCulture.values())
-			{
-				if (culture.equalsIgnoreCase(c.toString()))
-				{
-					return true;
-				}
-			}
+			return INDEX.get(culture.toLowerCase(Locale.ROOT));
 		}
 
-		return false;
+		return null;
+	}
+
+	/**
+	 * Gets the {@link KendoCulture} corresponding to the specified {@link Locale}, with a fallback to the {@code Locale}'s language
+	 * 
+	 * @param locale the {@code Locale}
+	 * @return the {@link KendoCulture}, or {@code null} if not supported
+	 */
+	public static KendoCulture find(Locale locale)
+	{
+		if (locale != null)
+		{
+			final KendoCulture culture = KendoCulture.find(locale.toLanguageTag());
+
+			return culture != null ? culture : KendoCulture.find(locale.getLanguage());
+		}
+
+		return null;
 	}
 
 	/**
@@ -952,4 +982,22 @@ public enum KendoCulture
 
 		return null;
 	}
+
+	/**
+	 * Gets a new (read-only) index of cultures, by lower-cased culture identifier
+	 * 
+	 * @return the index
+	 */
+	private static Map<String, KendoCulture> newIndex()
+	{
+		final KendoCulture[] values = KendoCulture.values();
+		final Map<String, KendoCulture> map = Generics.newHashMap(values.length);
+
+		for (KendoCulture value : values)
+		{
+			map.put(value.culture.toLowerCase(Locale.ROOT), value);
+		}
+
+		return Collections.unmodifiableMap(map);
+	}
 }
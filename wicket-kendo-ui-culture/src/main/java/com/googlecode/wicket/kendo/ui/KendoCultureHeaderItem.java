@@ -90,9 +90,11 @@ public class KendoCultureHeaderItem extends JavaScriptContentHeaderItem
 	 */
 	public static HeaderItem of(Locale locale)
 	{
-		if (locale != null)
+		final KendoCulture culture = KendoCulture.find(locale);
+
+		if (culture != null)
 		{
-			return KendoCultureHeaderItem.of(locale.toLanguageTag(), locale.getLanguage());
+			return new PriorityHeaderItem(new KendoCultureHeaderItem(culture));
 		}
 
 		return null;
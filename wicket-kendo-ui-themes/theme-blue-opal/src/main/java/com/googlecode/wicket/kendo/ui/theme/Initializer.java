@@ -20,7 +20,9 @@ import org.apache.wicket.Application;
 import org.apache.wicket.IInitializer;
 import org.apache.wicket.request.resource.CssResourceReference;
 
+import com.googlecode.wicket.kendo.ui.resource.KendoThemeStyleSheetResourceReference;
 import com.googlecode.wicket.kendo.ui.settings.KendoUILibrarySettings;
+import com.googlecode.wicket.kendo.ui.theme.common.KendoCommonStyleSheetResourceReference;
 
 /**
  * Provides the {@link IInitializer} for this theme
@@ -35,8 +37,8 @@ public class Initializer implements IInitializer
 		application.getMarkupSettings().setStripWicketTags(true);
 
 		KendoUILibrarySettings settings = KendoUILibrarySettings.get();
-		settings.setCommonStyleSheetReference(new CssResourceReference(Initializer.class, "kendo.common.min.css"));
-		settings.setThemeStyleSheetReference(new CssResourceReference(Initializer.class, "kendo.blueopal.min.css"));
+		settings.setCommonStyleSheetReference(KendoCommonStyleSheetResourceReference.get());
+		settings.setThemeStyleSheetReference(new KendoThemeStyleSheetResourceReference(Initializer.class, "kendo.blueopal.min.css", KendoCommonStyleSheetResourceReference.get()));
 		settings.setMobileStyleSheetReference(new CssResourceReference(Initializer.class, "kendo.blueopal.mobile.min.css"));
 	}
 
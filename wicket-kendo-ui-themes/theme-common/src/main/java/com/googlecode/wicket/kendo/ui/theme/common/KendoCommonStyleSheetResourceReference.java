@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.theme.common;
+
+import org.apache.wicket.request.resource.CssResourceReference;
+
+/**
+ * Provides the resource references of the Kendo UI common stylesheets, shared by all themes<br>
+ * As the stylesheets - and the fonts they refer to - are served from this single location, they are downloaded and cached once per client, whatever the theme.
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+public class KendoCommonStyleSheetResourceReference extends CssResourceReference
+{
+	private static final long serialVersionUID = 1L;
+
+	private static final KendoCommonStyleSheetResourceReference INSTANCE = new KendoCommonStyleSheetResourceReference("kendo.common.min.css");
+	private static final KendoCommonStyleSheetResourceReference MATERIAL = new KendoCommonStyleSheetResourceReference("kendo.common-material.min.css");
+
+	/**
+	 * Gets the instance of the common stylesheet resource reference
+	 *
+	 * @return the single instance of the resource reference
+	 */
+	public static KendoCommonStyleSheetResourceReference get()
+	{
+		return INSTANCE;
+	}
+
+	/**
+	 * Gets the instance of the common stylesheet resource reference, for material themes
+	 *
+	 * @return the single instance of the resource reference
+	 */
+	public static KendoCommonStyleSheetResourceReference material()
+	{
+		return MATERIAL;
+	}
+
+	/**
+	 * Private constructor
+	 *
+	 * @param name the stylesheet name
+	 */
+	private KendoCommonStyleSheetResourceReference(String name)
+	{
+		super(KendoCommonStyleSheetResourceReference.class, name);
+	}
+}
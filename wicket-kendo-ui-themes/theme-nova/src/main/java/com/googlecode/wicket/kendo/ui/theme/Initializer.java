@@ -20,6 +20,7 @@ import org.apache.wicket.Application;
 import org.apache.wicket.IInitializer;
 import org.apache.wicket.request.resource.CssResourceReference;
 
+import com.googlecode.wicket.kendo.ui.resource.KendoThemeStyleSheetResourceReference;
 import com.googlecode.wicket.kendo.ui.settings.KendoUILibrarySettings;
 
 /**
@@ -35,8 +36,10 @@ public class Initializer implements IInitializer
 		application.getMarkupSettings().setStripWicketTags(true);
 
 		KendoUILibrarySettings settings = KendoUILibrarySettings.get();
-		settings.setCommonStyleSheetReference(new CssResourceReference(Initializer.class, "kendo.common-nova.min.css"));
-		settings.setThemeStyleSheetReference(new CssResourceReference(Initializer.class, "kendo.nova.min.css"));
+		CssResourceReference common = new CssResourceReference(Initializer.class, "kendo.common-nova.min.css");
+
+		settings.setCommonStyleSheetReference(common);
+		settings.setThemeStyleSheetReference(new KendoThemeStyleSheetResourceReference(Initializer.class, "kendo.nova.min.css", common));
 		settings.setMobileStyleSheetReference(new CssResourceReference(Initializer.class, "kendo.nova.mobile.min.css"));
 	}
 
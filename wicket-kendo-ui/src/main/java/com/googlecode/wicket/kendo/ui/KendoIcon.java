@@ -16,6 +16,14 @@
  */
 package com.googlecode.wicket.kendo.ui;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.wicket.WicketRuntimeException;
+
 import com.googlecode.wicket.kendo.ui.form.button.Button;
 
 /**
@@ -586,6 +594,9 @@ public class KendoIcon
 	public static final String SHAPE_CIRCLE = "shape-circle";
 	public static final String RADIOBUTTON_CHECKED = "radiobutton-checked";
 
+	/** index of icons, built once from the constants above */
+	private static final Set<String> ICONS = KendoIcon.newIndex();
+
 	/**
 	 * Constants class
 	 */
@@ -604,6 +615,17 @@ public class KendoIcon
 		return KendoIcon.NONE.equals(icon);
 	}
 
+	/**
+	 * Indicates whether the icon is one of the {@link KendoIcon} constants
+	 *
+	 * @param icon the icon, ie: 'arrow-up'
+	 * @return true or false
+	 */
+	public static boolean exists(String icon)
+	{
+		return ICONS.contains(icon);
+	}
+
 	/**
 	 * Gets the full css-class of the icon
 	 *
@@ -619,4 +641,35 @@ public class KendoIcon
 
 		return "";
 	}
+
+	/**
+	 * Gets a new (read-only) index of the icon constants
+	 *
+	 * @return the index
+	 */
+	private static Set<String> newIndex()
+	{
+		final Set<String> set = new HashSet<>();
+
+		for (Field field : KendoIcon.class.getFields())
+		{
+			final int modifiers = field.getModifiers();
+
+			if (Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers) && field.getType() == String.class && !"K_ICON".equals(field.getName()))
+			{
+				try
+				{
+					set.add((String) field.get(null));
+				}
+				catch (IllegalAccessException e)
+				{
+					throw new WicketRuntimeException(e);
+				}
+			}
+		}
+
+		set.remove(NONE);
+
+		return Collections.unmodifiableSet(set);
+	}
 }
@@ -29,6 +29,7 @@ import org.slf4j.LoggerFactory;
 
 import com.googlecode.wicket.jquery.core.IJQueryWidget.JQueryWidget;
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
+import com.googlecode.wicket.jquery.core.JQueryInitAggregatorBehavior;
 import com.googlecode.wicket.jquery.core.Options;
 import com.googlecode.wicket.kendo.ui.KendoDestroyListener.IDestroyable;
 import com.googlecode.wicket.kendo.ui.settings.KendoUILibrarySettings;
@@ -127,9 +128,18 @@ public class KendoUIBehavior extends JQueryBehavior implements IDestroyable
 		// Data Sources //
 		if (this.datasources != null)
 		{
+			final JQueryInitAggregatorBehavior aggregator = this.getAggregatorBehavior(component);
+
 			for (IKendoDataSource datasource : this.datasources)
 			{
-				this.renderOnDomReadyScript(datasource.toScript(), response); // #311, #333
+				if (aggregator != null)
+				{
+					aggregator.renderScript(datasource.toScript(), response); // declared before the aggregated initializations
+				}
+				else
+				{
+					this.renderOnDomReadyScript(datasource.toScript(), response); // #311, #333
+				}
 			}
 		}
 
@@ -166,7 +176,7 @@ public class KendoUIBehavior extends JQueryBehavior implements IDestroyable
 	 */
 	public static String widget(String selector, String method)
 	{
-		return String.format("jQuery('%s').data('%s')", selector, method);
+		return "jQuery('" + selector + "').data('" + method + "')";
 	}
 
 	/**
@@ -19,7 +19,9 @@ package com.googlecode.wicket.kendo.ui.console;
 import java.io.Serializable;
 import java.util.Map;
 
+import org.apache.wicket.Component;
 import org.apache.wicket.core.request.handler.IPartialPageRequestHandler;
+import org.apache.wicket.markup.head.IHeaderResponse;
 import org.apache.wicket.markup.html.WebMarkupContainer;
 import org.apache.wicket.model.IModel;
 import org.apache.wicket.model.Model;
@@ -29,7 +31,10 @@ import org.apache.wicket.util.lang.Args;
  * Provides the base class for Kendo UI console widget<br>
  * <b>Note about the capacity:</b> the capacity allows to define a maximum number of messages.<br>
  * Elder messages will be automatically removed from the model object on insertion.<br>
- * However, this is only reflected when the component is (re-)rendered ({@link #onBeforeRender()} has to be invoked)
+ * However, this is only reflected when the component is (re-)rendered ({@link #onBeforeRender()} has to be invoked)<br>
+ * <br>
+ * <b>Note about Ajax requests:</b> messages logged without a handler can be sent afterward using {@link #flush(IPartialPageRequestHandler)}; only the messages added since the
+ * last render are then sent to the client.
  *
  * @author Sebastien Briquet - sebfz1
  */
@@ -106,7 +111,7 @@ public abstract class AbstractConsole extends WebMarkupContainer
 	 */
 	public void log(Serializable message, boolean error)
 	{
-		this.getModelObject().put(message, error);
+		this.getModelObject().add(message, error);
 	}
 
 	/**
@@ -119,8 +124,24 @@ public abstract class AbstractConsole extends WebMarkupContainer
 	public void log(IPartialPageRequestHandler handler, Serializable message, boolean error)
 	{
 		this.log(message, error);
+		this.flush(handler);
+	}
+
+	/**
+	 * Sends the messages that have been added since the last render
+	 *
+	 * @param handler the {@link IPartialPageRequestHandler}
+	 */
+	public void flush(IPartialPageRequestHandler handler)
+	{
+		final ConsoleMessages messages = this.getModelObject();
 
-		handler.appendJavaScript(this.consoleBehavior.$(message, error));
+		for (Map.Entry<Serializable, Boolean> entry : messages.pending())
+		{
+			handler.appendJavaScript(this.consoleBehavior.$(entry.getKey(), entry.getValue()));
+		}
+
+		messages.markRendered();
 	}
 
 	/**
@@ -165,15 +186,25 @@ public abstract class AbstractConsole extends WebMarkupContainer
 			@Override
 			protected String $()
 			{
-				StringBuilder builder = new StringBuilder();
+				final StringBuilder builder = new StringBuilder();
+				final ConsoleMessages messages = AbstractConsole.this.getModelObject();
 
-				for (Map.Entry<Serializable, Boolean> entry : AbstractConsole.this.getModelObject().entrySet())
+				for (Map.Entry<Serializable, Boolean> entry : messages)
 				{
 					builder.append(this.$(entry.getKey(), entry.getValue())).append("\n");
 				}
 
 				return builder.toString();
 			}
+
+			@Override
+			public void renderHead(Component component, IHeaderResponse response)
+			{
+				super.renderHead(component, response);
+
+				// the whole console has been rendered, not in #$() which also backs #toString() //
+				AbstractConsole.this.getModelObject().markRendered();
+			}
 		};
 	}
 }
@@ -76,9 +76,7 @@ public class Console extends AbstractConsole
 	 */
 	public void info(IPartialPageRequestHandler handler, Serializable message)
 	{
-		this.log(message, false);
-
-		handler.appendJavaScript(this.consoleBehavior.$(message, false));
+		this.log(handler, message, false);
 	}
 
 	/**
@@ -89,8 +87,6 @@ public class Console extends AbstractConsole
 	 */
 	public void error(IPartialPageRequestHandler handler, Serializable message)
 	{
-		this.log(message, true);
-
-		handler.appendJavaScript(this.consoleBehavior.$(message, true));
+		this.log(handler, message, true);
 	}
 }
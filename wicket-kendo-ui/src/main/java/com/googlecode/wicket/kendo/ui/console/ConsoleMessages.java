@@ -17,29 +17,55 @@
 package com.googlecode.wicket.kendo.ui.console;
 
 import java.io.Serializable;
-import java.util.LinkedHashMap;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.apache.wicket.util.io.IClusterable;
+import org.apache.wicket.util.lang.Args;
 
 /**
- * Provides the {@link Console} model object
+ * Provides the {@link Console} model object<br>
+ * Messages are stored in a ring buffer of a fixed capacity: appending a message is O(1) and, once the capacity is reached, it overwrites the eldest message.<br>
+ * The buffer also keeps track of the messages that have been added since the last render (see {@link #pending()} and {@link #markRendered()}).
  *
  * @author Sebastien Briquet - sebfz1
  */
-public class ConsoleMessages extends LinkedHashMap<Serializable, Boolean>
+public class ConsoleMessages implements Iterable<Map.Entry<Serializable, Boolean>>, IClusterable
 {
 	private static final long serialVersionUID = 1L;
 
 	/** Default capacity */
 	private static final int CAPACITY = 25;
 
+	/** Initial buffer length, the buffer grows up to the capacity */
+	private static final int LENGTH = 16;
+
 	private final int capacity;
 
+	private Serializable[] messages;
+	private boolean[] errors;
+
+	/** index of the eldest message */
+	private int head = 0;
+
+	/** number of messages currently in the buffer */
+	private int size = 0;
+
+	/** number of messages added so far */
+	private long count = 0;
+
+	/** number of messages added so far, at the time of the last render */
+	private long rendered = 0;
+
 	/**
 	 * Constructor
 	 */
 	public ConsoleMessages()
 	{
-		this.capacity = CAPACITY;
+		this(CAPACITY);
 	}
 
 	/**
@@ -49,12 +75,168 @@ public class ConsoleMessages extends LinkedHashMap<Serializable, Boolean>
 	 */
 	public ConsoleMessages(int capacity)
 	{
-		this.capacity = capacity;
+		this.capacity = Args.withinRange(1, Integer.MAX_VALUE, capacity, "capacity");
+		this.messages = new Serializable[Math.min(capacity, LENGTH)];
+		this.errors = new boolean[this.messages.length];
+	}
+
+	// Properties //
+
+	/**
+	 * Gets the max capacity
+	 *
+	 * @return the max capacity
+	 */
+	public int getCapacity()
+	{
+		return this.capacity;
+	}
+
+	/**
+	 * Gets the number of messages
+	 *
+	 * @return the number of messages
+	 */
+	public int size()
+	{
+		return this.size;
 	}
 
+	/**
+	 * Indicates whether there is no message
+	 *
+	 * @return {@code true} or {@code false}
+	 */
+	public boolean isEmpty()
+	{
+		return this.size == 0;
+	}
+
+	/**
+	 * Gets the number of messages that have been added since the last render, and that are still in the buffer
+	 *
+	 * @return the number of pending messages
+	 */
+	public int getPendingCount()
+	{
+		return (int) Math.min(this.count - this.rendered, this.size);
+	}
+
+	// Methods //
+
+	/**
+	 * Adds a message, the eldest message is overwritten if the capacity is reached
+	 *
+	 * @param message the message
+	 * @param error indicates whether the message is an error message
+	 */
+	public void add(Serializable message, boolean error)
+	{
+		if (this.size == this.messages.length && this.size < this.capacity)
+		{
+			this.grow();
+		}
+
+		final int index = (this.head + this.size) % this.messages.length;
+
+		this.messages[index] = message;
+		this.errors[index] = error;
+		this.count++;
+
+		if (this.size < this.messages.length)
+		{
+			this.size++;
+		}
+		else
+		{
+			this.head = (this.head + 1) % this.messages.length; // evicts the eldest message
+		}
+	}
+
+	/**
+	 * Marks all messages as rendered
+	 */
+	public void markRendered()
+	{
+		this.rendered = this.count;
+	}
+
+	/**
+	 * Removes all messages
+	 */
+	public void clear()
+	{
+		Arrays.fill(this.messages, null);
+
+		this.head = 0;
+		this.size = 0;
+		this.rendered = this.count;
+	}
+
+	/**
+	 * Gets an iterator over all messages, from the eldest to the newest
+	 */
 	@Override
-	protected boolean removeEldestEntry(Map.Entry<Serializable, Boolean> eldest)
+	public Iterator<Map.Entry<Serializable, Boolean>> iterator()
 	{
-		return this.size() > this.capacity;
+		return new EntryIterator(0);
+	}
+
+	/**
+	 * Gets the messages that have been added since the last render, from the eldest to the newest
+	 *
+	 * @return the pending messages
+	 */
+	public Iterable<Map.Entry<Serializable, Boolean>> pending()
+	{
+		final int offset = this.size - this.getPendingCount();
+
+		return () -> new EntryIterator(offset);
+	}
+
+	/**
+	 * Grows the buffer, up to the capacity<br>
+	 * <b>Note:</b> the buffer is only grown while it has never been full, so the messages are not wrapped yet
+	 */
+	private void grow()
+	{
+		final int length = (int) Math.min((long) this.messages.length * 2, this.capacity);
+
+		this.messages = Arrays.copyOf(this.messages, length);
+		this.errors = Arrays.copyOf(this.errors, length);
+	}
+
+	// Classes //
+
+	/**
+	 * Iterator over the buffer entries, starting from the supplied offset (relative to the eldest message)
+	 */
+	private class EntryIterator implements Iterator<Map.Entry<Serializable, Boolean>>
+	{
+		private int offset;
+
+		public EntryIterator(int offset)
+		{
+			this.offset = offset;
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			return this.offset < ConsoleMessages.this.size;
+		}
+
+		@Override
+		public Map.Entry<Serializable, Boolean> next()
+		{
+			if (!this.hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+
+			final int index = (ConsoleMessages.this.head + this.offset++) % ConsoleMessages.this.messages.length;
+
+			return new AbstractMap.SimpleImmutableEntry<>(ConsoleMessages.this.messages[index], ConsoleMessages.this.errors[index]);
+		}
 	}
 }
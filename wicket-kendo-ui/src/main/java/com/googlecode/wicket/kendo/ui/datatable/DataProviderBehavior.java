@@ -16,12 +16,17 @@
  */
 package com.googlecode.wicket.kendo.ui.datatable;
 
+import java.io.Serializable;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
 
 import org.apache.wicket.Application;
 import org.apache.wicket.Component;
 import org.apache.wicket.Session;
+import org.apache.wicket.core.request.handler.IPartialPageRequestHandler;
 import org.apache.wicket.core.util.lang.PropertyResolver;
 import org.apache.wicket.core.util.lang.PropertyResolverConverter;
 import org.apache.wicket.extensions.markup.html.repeater.data.sort.ISortState;
@@ -31,6 +36,7 @@ import org.apache.wicket.extensions.markup.html.repeater.data.table.filter.IFilt
 import org.apache.wicket.extensions.markup.html.repeater.util.SingleSortState;
 import org.apache.wicket.markup.repeater.data.IDataProvider;
 import org.apache.wicket.model.IModel;
+import org.apache.wicket.request.IRequestHandler;
 import org.apache.wicket.request.IRequestParameters;
 import org.apache.wicket.util.convert.ConversionException;
 
@@ -40,10 +46,12 @@ import com.github.openjson.JSONObject;
 import com.googlecode.wicket.jquery.core.behavior.AjaxCallbackBehavior;
 import com.googlecode.wicket.kendo.ui.datatable.column.IColumn;
 import com.googlecode.wicket.kendo.ui.datatable.column.PropertyColumn;
+import com.googlecode.wicket.kendo.ui.repeater.DataProviderRequestHandler;
 import com.googlecode.wicket.kendo.ui.utils.PropertyUtils;
 
 /**
- * Provides the {@link DataTable} data source {@link AjaxCallbackBehavior}
+ * Provides the {@link DataTable} data source {@link AjaxCallbackBehavior}<br>
+ * If the requested number of rows ({@code take}) exceeds {@link #getMaxRowCount()}, the rows are streamed by chunks (see {@link DataProviderRequestHandler})
  *
  * @param <T> the type of the model object
  * @author Sebastien Briquet - sebfz1
@@ -56,9 +64,21 @@ public class DataProviderBehavior<T> extends AjaxCallbackBehavior
 	/** The max number of filtered column */
 	private static final int COLS = 20;
 
+	/** default max number of rows that can be read at once */
+	public static final int MAX_ROWS = 1000;
+
+	/** The max number of page keys remembered for {@link IKeysetDataProvider} */
+	private static final int KEYS = 100;
+
 	private final IDataProvider<T> provider;
 	private final IModel<List<IColumn>> columns;
 
+	/** The sort & filter state the keys belong to */
+	private String state = null;
+
+	/** The keys of the last row of served pages, indexed by the next row index */
+	private final Map<Long, Serializable> keys = new KeyMap();
+
 	/**
 	 * Constructor
 	 *
@@ -71,8 +91,30 @@ public class DataProviderBehavior<T> extends AjaxCallbackBehavior
 		this.provider = provider;
 	}
 
+	// Properties //
+
+	/**
+	 * Gets the {@link IDataProvider}
+	 *
+	 * @return the {@link IDataProvider}
+	 */
+	protected final IDataProvider<T> getDataProvider()
+	{
+		return this.provider;
+	}
+
 	// Methods //
 
+	/**
+	 * Discards the keys of the already served pages, so the next read does not seek from a stale key<br>
+	 * This method should be called whenever the underlying data or the provider's own filter changes (ie: on {@link DataTable#refresh(IPartialPageRequestHandler)})
+	 */
+	public void invalidate()
+	{
+		this.state = null;
+		this.keys.clear();
+	}
+
 	@SuppressWarnings("unchecked")
 	protected void setSort(String property, SortOrder order)
 	{
@@ -89,11 +131,32 @@ public class DataProviderBehavior<T> extends AjaxCallbackBehavior
 		}
 	}
 
-	@Override
-	protected String getResponse(IRequestParameters parameters)
+	/**
+	 * Gets the max number of rows that can be read at once<br>
+	 * Requests above this limit are served as a streamed response, by chunks of {@code #getMaxRowCount()} rows
+	 *
+	 * @return {@link #MAX_ROWS} by default
+	 */
+	protected int getMaxRowCount()
 	{
-		final int first = parameters.getParameterValue("skip").toInt(0);
-		final int count = parameters.getParameterValue("take").toInt(Short.MAX_VALUE);
+		return MAX_ROWS;
+	}
+
+	/**
+	 * Sets the sort and filter states of the {@link IDataProvider}, according to the request parameters
+	 *
+	 * @param parameters the {@link IRequestParameters}
+	 */
+	protected void setProviderState(IRequestParameters parameters)
+	{
+		// IKeysetDataProvider //
+		final String current = getState(parameters);
+
+		if (!current.equals(this.state))
+		{
+			this.state = current;
+			this.keys.clear();
+		}
 
 		// ISortStateLocator //
 		if (this.provider instanceof ISortStateLocator<?>)
@@ -135,10 +198,86 @@ public class DataProviderBehavior<T> extends AjaxCallbackBehavior
 				}
 			}
 		}
+	}
+
+	/**
+	 * Gets an iterator for the supplied range<br>
+	 * If the {@link IDataProvider} IS-A {@link IKeysetDataProvider} and the previous page has already been served for the current sort & filter state, the seek iterator is used
+	 *
+	 * @param first the index of the first row
+	 * @param count the number of rows
+	 * @return the iterator
+	 */
+	@SuppressWarnings("unchecked")
+	protected Iterator<? extends T> iterator(long first, long count)
+	{
+		if (this.provider instanceof IKeysetDataProvider<?, ?>)
+		{
+			return this.keysetIterator((IKeysetDataProvider<T, ?>) this.provider, first, count);
+		}
+
+		return this.provider.iterator(first, count);
+	}
+
+	/**
+	 * Gets an iterator for the supplied range, which remembers the key of the last iterated row
+	 *
+	 * @param provider the {@link IKeysetDataProvider}
+	 * @param first the index of the first row
+	 * @param count the number of rows
+	 * @return the iterator
+	 */
+	@SuppressWarnings("unchecked")
+	private <K extends Serializable> Iterator<? extends T> keysetIterator(final IKeysetDataProvider<T, K> provider, final long first, long count)
+	{
+		final K key = first > 0 ? (K) this.keys.get(first) : null;
+		final Iterator<? extends T> iterator = key != null ? provider.iterator(key, count) : provider.iterator(first, count);
+
+		if (iterator == null)
+		{
+			return null;
+		}
+
+		return new Iterator<T>() {
+
+			private long index = first;
+			private T last = null;
+
+			@Override
+			public boolean hasNext()
+			{
+				final boolean hasNext = iterator.hasNext();
+
+				if (!hasNext && this.last != null)
+				{
+					DataProviderBehavior.this.keys.put(this.index, provider.getKey(this.last));
+				}
+
+				return hasNext;
+			}
+
+			@Override
+			public T next()
+			{
+				this.last = iterator.next();
+				this.index++;
+
+				return this.last;
+			}
+		};
+	}
+
+	@Override
+	protected String getResponse(IRequestParameters parameters)
+	{
+		final int first = parameters.getParameterValue("skip").toInt(0);
+		final int count = parameters.getParameterValue("take").toInt(Short.MAX_VALUE);
+
+		this.setProviderState(parameters);
 
 		// response //
 		final JSONArray results = new JSONArray();
-		final Iterator<? extends T> iterator = this.provider.iterator(first, count);
+		final Iterator<? extends T> iterator = this.iterator(first, count);
 
 		if (iterator != null)
 		{
@@ -152,6 +291,9 @@ public class DataProviderBehavior<T> extends AjaxCallbackBehavior
 		object.put("results", results);
 		object.put("__count", this.provider.size());
 
+		this.setRowCount(results.length());
+		this.onResponse(first, count, results.length());
+
 		return object.toString();
 	}
 
@@ -163,8 +305,77 @@ public class DataProviderBehavior<T> extends AjaxCallbackBehavior
 		this.provider.detach();
 	}
 
+	// Events //
+
+	/**
+	 * Triggered when the rows have been sent<br>
+	 * This method can be overridden to collect page-size / row-count metrics
+	 *
+	 * @param first the index of the first requested row
+	 * @param count the requested number of rows
+	 * @param rows the number of rows that have actually been sent
+	 */
+	protected void onResponse(long first, long count, long rows)
+	{
+		// noop
+	}
+
+	// Helpers //
+
+	/**
+	 * Gets the sort and filter state signature of the request
+	 *
+	 * @param parameters the {@link IRequestParameters}
+	 * @return the state signature
+	 */
+	protected static String getState(IRequestParameters parameters)
+	{
+		StringBuilder builder = new StringBuilder();
+
+		for (String name : new TreeSet<>(parameters.getParameterNames()))
+		{
+			if (name.startsWith("sort") || name.startsWith("filter"))
+			{
+				builder.append(name).append('=').append(parameters.getParameterValue(name)).append('&');
+			}
+		}
+
+		return builder.toString();
+	}
+
 	// Factories //
 
+	@Override
+	protected IRequestHandler newRequestHandler(IRequestParameters parameters)
+	{
+		final int first = parameters.getParameterValue("skip").toInt(0);
+		final int count = parameters.getParameterValue("take").toInt(Short.MAX_VALUE);
+
+		if (count > this.getMaxRowCount())
+		{
+			this.setProviderState(parameters);
+
+			return new DataProviderRequestHandler<T>(this.getMimeType(), this.getEncoding(), this.provider, first, count, this.getMaxRowCount()) {
+
+				@Override
+				protected void onResponse(long first, long count, long rows)
+				{
+					DataProviderBehavior.this.setRowCount(rows);
+					DataProviderBehavior.this.setResponseSize(this.getSize());
+					DataProviderBehavior.this.onResponse(first, count, rows);
+				}
+
+				@Override
+				protected JSONObject newJsonRow(T bean)
+				{
+					return DataProviderBehavior.this.newJsonRow(bean);
+				}
+			};
+		}
+
+		return super.newRequestHandler(parameters);
+	}
+
 	/**
 	 * Get a new {@link PropertyResolverConverter}
 	 *
@@ -203,4 +414,20 @@ public class DataProviderBehavior<T> extends AjaxCallbackBehavior
 
 		return object;
 	}
+
+	// Classes //
+
+	/**
+	 * Provides a bounded map of keys, the eldest being discarded first
+	 */
+	private static class KeyMap extends LinkedHashMap<Long, Serializable>
+	{
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, Serializable> eldest)
+		{
+			return this.size() > KEYS;
+		}
+	}
 }
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.datatable;
+
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.wicket.ajax.attributes.CallbackParameter;
+import org.apache.wicket.util.lang.Generics;
+
+import com.github.openjson.JSONArray;
+import com.github.openjson.JSONObject;
+import com.googlecode.wicket.jquery.core.JQueryEvent;
+import com.googlecode.wicket.jquery.core.ajax.IJQueryAjaxAware;
+import com.googlecode.wicket.jquery.core.ajax.JQueryAjaxPostBehavior;
+import com.googlecode.wicket.jquery.core.converter.JsonBinder;
+import com.googlecode.wicket.jquery.core.utils.RequestCycleUtils;
+import com.googlecode.wicket.kendo.ui.KendoDataSource;
+
+/**
+ * Provides a single {@link JQueryAjaxPostBehavior} for handling {@link KendoDataSource} batch operations ({@code batch: true})<br>
+ * The same behavior is wired to the 'create', 'update' and 'destroy' transports; all models of an operation are posted in one request.
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+public class DataSourceBatchAjaxBehavior extends JQueryAjaxPostBehavior
+{
+	private static final long serialVersionUID = 1L;
+
+	public static final String CREATE = "create";
+	public static final String UPDATE = "update";
+	public static final String DELETE = "destroy";
+
+	public DataSourceBatchAjaxBehavior(IJQueryAjaxAware source)
+	{
+		super(source);
+	}
+
+	/**
+	 * Gets the callback function for the supplied operation
+	 *
+	 * @param operation the operation, ie: {@link #CREATE}, {@link #UPDATE} or {@link #DELETE}
+	 * @return the javascript function
+	 */
+	public String getCallbackFunction(String operation)
+	{
+		return super.getCallbackFunction(this.getCallbackParameters(operation)).toString();
+	}
+
+	/**
+	 * Gets the {@link CallbackParameter}{@code s} for the supplied operation
+	 *
+	 * @param operation the operation
+	 * @return an array of {@link CallbackParameter}
+	 */
+	protected CallbackParameter[] getCallbackParameters(String operation)
+	{
+		return new CallbackParameter[] { // lf
+				CallbackParameter.context("e"), // lf
+				CallbackParameter.resolved("operation", "'" + operation + "'"), // lf
+				CallbackParameter.resolved("models", "kendo.stringify(e.data.models)"), // lf
+				CallbackParameter.resolved("timezoneOffset", "new Date().getTimezoneOffset()") };
+	}
+
+	@Override
+	public CharSequence getCallbackFunctionBody(CallbackParameter... parameters)
+	{
+		return super.getCallbackFunctionBody(parameters) + " e.success();";
+	}
+
+	@Override
+	protected JQueryEvent newEvent()
+	{
+		return new BatchEvent();
+	}
+
+	// Event objects //
+
+	/**
+	 * Provides an event object that will be broadcasted by the {@link DataSourceBatchAjaxBehavior}
+	 */
+	public static class BatchEvent extends JQueryEvent
+	{
+		private final String operation;
+		private final List<JSONObject> objects;
+		private ZoneOffset offset = null;
+
+		public BatchEvent()
+		{
+			this.operation = RequestCycleUtils.getRequestParameterValue("operation").toString("");
+
+			final JSONArray models = new JSONArray(RequestCycleUtils.getRequestParameterValue("models").toString("[]"));
+			final List<JSONObject> list = Generics.newArrayList(models.length());
+
+			for (int i = 0; i < models.length(); i++)
+			{
+				list.add(models.getJSONObject(i));
+			}
+
+			this.objects = Collections.unmodifiableList(list);
+		}
+
+		/**
+		 * Gets the operation
+		 *
+		 * @return {@link DataSourceBatchAjaxBehavior#CREATE}, {@link DataSourceBatchAjaxBehavior#UPDATE}, {@link DataSourceBatchAjaxBehavior#DELETE}, or an empty string if
+		 *         not supplied
+		 */
+		public String getOperation()
+		{
+			return this.operation;
+		}
+
+		/**
+		 * Gets the models of the operation
+		 *
+		 * @return the read-only {@code List} of {@link JSONObject}{@code s}
+		 */
+		public List<JSONObject> getObjects()
+		{
+			return this.objects;
+		}
+
+		/**
+		 * Gets the models of the operation bound to new objects of the supplied type, using the client's {@link ZoneOffset}
+		 *
+		 * @param <T> the object type
+		 * @param type the object class
+		 * @return a new {@code List} of objects
+		 * @see JsonBinder
+		 */
+		public <T> List<T> getObjects(Class<T> type)
+		{
+			final JsonBinder<T> binder = JsonBinder.of(type);
+			final ZoneOffset offset = this.getOffset();
+			final List<T> list = Generics.newArrayList(this.objects.size());
+
+			for (JSONObject object : this.objects)
+			{
+				list.add(binder.toObject(object, offset));
+			}
+
+			return list;
+		}
+
+		/**
+		 * Gets the client's {@link ZoneOffset}
+		 *
+		 * @return the {@link ZoneOffset}
+		 */
+		public ZoneOffset getOffset()
+		{
+			if (this.offset == null)
+			{
+				this.offset = DataSourceEvent.offset(); // lazy, most operations do not handle dates
+			}
+
+			return this.offset;
+		}
+	}
+}
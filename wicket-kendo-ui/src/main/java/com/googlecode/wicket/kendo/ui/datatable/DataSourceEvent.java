@@ -16,11 +16,15 @@
  */
 package com.googlecode.wicket.kendo.ui.datatable;
 
+import java.time.ZoneOffset;
+
 import org.apache.wicket.request.cycle.RequestCycle;
+import org.apache.wicket.util.string.StringValueConversionException;
 
 import com.github.openjson.JSONObject;
 
 import com.googlecode.wicket.jquery.core.JQueryEvent;
+import com.googlecode.wicket.jquery.core.converter.JsonBinder;
 import com.googlecode.wicket.jquery.core.utils.RequestCycleUtils;
 import com.googlecode.wicket.kendo.ui.KendoDataSource;
 
@@ -31,7 +35,11 @@ import com.googlecode.wicket.kendo.ui.KendoDataSource;
  */
 public class DataSourceEvent extends JQueryEvent
 {
+	/** max offset, in minutes (see {@link ZoneOffset#MAX}) */
+	private static final int MAX_OFFSET = 18 * 60;
+
 	private final JSONObject object;
+	private ZoneOffset offset = null;
 
 	public DataSourceEvent()
 	{
@@ -43,6 +51,34 @@ public class DataSourceEvent extends JQueryEvent
 		return this.object;
 	}
 
+	/**
+	 * Gets the json data bound to a new object of the supplied type, using the client's {@link ZoneOffset}
+	 * 
+	 * @param <T> the object type
+	 * @param type the object class
+	 * @return a new object
+	 * @see JsonBinder
+	 */
+	public <T> T getObject(Class<T> type)
+	{
+		return JsonBinder.of(type).toObject(this.object, this.getOffset());
+	}
+
+	/**
+	 * Gets the client's {@link ZoneOffset}
+	 * 
+	 * @return the {@link ZoneOffset}
+	 */
+	public ZoneOffset getOffset()
+	{
+		if (this.offset == null)
+		{
+			this.offset = DataSourceEvent.offset(); // lazy, most events do not handle dates
+		}
+
+		return this.offset;
+	}
+
 	/**
 	 * Gets the json data from the {@link RequestCycle}
 	 * 
@@ -55,6 +91,25 @@ public class DataSourceEvent extends JQueryEvent
 		return new JSONObject(data);
 	}
 
+	/**
+	 * Gets the client's {@link ZoneOffset} from the {@link RequestCycle}
+	 * 
+	 * @return the {@link ZoneOffset}, clamped to &plusmn;18h, or {@link ZoneOffset#UTC} if not supplied or invalid
+	 */
+	public static ZoneOffset offset()
+	{
+		try
+		{
+			int minutes = RequestCycleUtils.getRequestParameterValue("timezoneOffset").toInt(0); // javascript Date#getTimezoneOffset()
+
+			return ZoneOffset.ofTotalSeconds(-Math.max(-MAX_OFFSET, Math.min(MAX_OFFSET, minutes)) * 60);
+		}
+		catch (StringValueConversionException e)
+		{
+			return ZoneOffset.UTC;
+		}
+	}
+
 	/**
 	 * Provides an event object that will be broadcasted by the {@link DataSourceAjaxBehavior} 'create' callback
 	 */
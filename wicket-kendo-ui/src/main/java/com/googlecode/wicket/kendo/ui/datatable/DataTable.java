@@ -39,6 +39,7 @@ import com.googlecode.wicket.jquery.core.JQueryBehavior;
 import com.googlecode.wicket.jquery.core.Options;
 import com.googlecode.wicket.jquery.core.ajax.IJQueryAjaxAware;
 import com.googlecode.wicket.jquery.core.ajax.JQueryAjaxBehavior;
+import com.googlecode.wicket.jquery.core.converter.JsonBinder;
 import com.googlecode.wicket.jquery.core.resource.JavaScriptPackageHeaderItem;
 import com.googlecode.wicket.kendo.ui.KendoBehaviorFactory;
 import com.googlecode.wicket.kendo.ui.KendoDataSource;
@@ -208,6 +209,18 @@ public class DataTable<T> extends WebComponent implements IGenericComponent<List
 		handler.appendJavaScript(String.format("var $w = %s; if ($w) { $w.dataSource.page(1); }", this.widget()));
 	}
 
+	/**
+	 * Discards the state kept by the data-provider behavior(s) about already served rows (ie: keyset keys, virtual windows)<br>
+	 * This method is called by {@code #reload} and {@code #refresh}
+	 */
+	protected void invalidate()
+	{
+		for (DataProviderBehavior<?> behavior : this.getBehaviors(DataProviderBehavior.class))
+		{
+			behavior.invalidate();
+		}
+	}
+
 	/**
 	 * Reloads the {@link DataTable}<br>
 	 * Equivalent to {@code handler.add(table)}
@@ -230,6 +243,8 @@ public class DataTable<T> extends WebComponent implements IGenericComponent<List
 	 */
 	public void reload(IPartialPageRequestHandler handler, boolean reset)
 	{
+		this.invalidate();
+
 		if (reset)
 		{
 			this.reset(handler);
@@ -257,6 +272,8 @@ public class DataTable<T> extends WebComponent implements IGenericComponent<List
 	 */
 	public void refresh(IPartialPageRequestHandler handler, boolean reset)
 	{
+		this.invalidate();
+
 		if (reset)
 		{
 			this.reset(handler);
@@ -265,6 +282,21 @@ public class DataTable<T> extends WebComponent implements IGenericComponent<List
 		handler.appendJavaScript(String.format("var $w = %s; if ($w) { $w.dataSource.read(); }", this.widget()));
 	}
 
+	/**
+	 * Binds a json object - supplied to {@link #onCreate(AjaxRequestTarget, JSONObject)}, {@link #onUpdate(AjaxRequestTarget, JSONObject)} or
+	 * {@link #onDelete(AjaxRequestTarget, JSONObject)} - to a new object<br>
+	 * Dates are converted using the client's timezone offset, sent along with the request
+	 *
+	 * @param object the {@link JSONObject}
+	 * @param type the object class
+	 * @return a new object
+	 * @see JsonBinder
+	 */
+	public T toObject(JSONObject object, Class<T> type)
+	{
+		return JsonBinder.of(type).toObject(object, DataSourceEvent.offset());
+	}
+
 	// Properties //
 
 	/**
@@ -328,6 +360,18 @@ public class DataTable<T> extends WebComponent implements IGenericComponent<List
 		return this.options.get("selectable") != null;
 	}
 
+	/**
+	 * Indicates whether the data-source operates in batch mode<br>
+	 * If {@code true}, all created, updated or deleted rows are posted at once - to a single endpoint - and the {@code List} variants of {@link #onCreate(AjaxRequestTarget, List)},
+	 * {@link #onUpdate(AjaxRequestTarget, List)} and {@link #onDelete(AjaxRequestTarget, List)} are triggered
+	 *
+	 * @return {@code false} by default
+	 */
+	protected boolean isBatchMode()
+	{
+		return false;
+	}
+
 	// Events //
 
 	@Override
@@ -468,6 +512,12 @@ public class DataTable<T> extends WebComponent implements IGenericComponent<List
 				return DataTable.this.getCallbackUrl();
 			}
 
+			@Override
+			protected boolean isBatchMode()
+			{
+				return DataTable.this.isBatchMode();
+			}
+
 			@Override
 			protected List<ToolbarButton> getToolbarButtons()
 			{
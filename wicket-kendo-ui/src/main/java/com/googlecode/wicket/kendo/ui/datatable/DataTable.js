@@ -34,3 +34,18 @@ function datatable_edit(e) {
 			}
 	});
 }
+
+/**
+ * Virtual scrolling: prefetches the next window while the current one renders
+ */
+function datatable_virtual_dataBound(e) {
+	datatable_dataBound(e);
+
+	var dataSource = e.sender.dataSource;
+	var take = dataSource.take();
+	var skip = dataSource.skip() + take;
+
+	if (take && skip < dataSource.total() && !dataSource.inRange(skip, take)) {
+		dataSource.prefetch(skip, take);
+	}
+}
@@ -36,6 +36,7 @@ import com.googlecode.wicket.jquery.core.utils.ListUtils;
 import com.googlecode.wicket.jquery.core.utils.RequestCycleUtils;
 import com.googlecode.wicket.kendo.ui.KendoDataSource;
 import com.googlecode.wicket.kendo.ui.KendoUIBehavior;
+import com.googlecode.wicket.kendo.ui.datatable.DataSourceBatchAjaxBehavior.BatchEvent;
 import com.googlecode.wicket.kendo.ui.datatable.DataSourceEvent.CreateEvent;
 import com.googlecode.wicket.kendo.ui.datatable.DataSourceEvent.DeleteEvent;
 import com.googlecode.wicket.kendo.ui.datatable.DataSourceEvent.UpdateEvent;
@@ -75,6 +76,7 @@ public abstract class DataTableBehavior extends KendoUIBehavior implements IJQue
 	private DataSourceAjaxBehavior onCreateAjaxBehavior;
 	private DataSourceAjaxBehavior onUpdateAjaxBehavior;
 	private DataSourceAjaxBehavior onDeleteAjaxBehavior;
+	private DataSourceBatchAjaxBehavior onBatchAjaxBehavior;
 
 	/**
 	 * Constructor
@@ -138,14 +140,22 @@ public abstract class DataTableBehavior extends KendoUIBehavior implements IJQue
 		}
 
 		// data events //
-		this.onCreateAjaxBehavior = this.newOnCreateAjaxBehavior(this);
-		component.add(this.onCreateAjaxBehavior);
+		if (this.isBatchMode())
+		{
+			this.onBatchAjaxBehavior = this.newOnBatchAjaxBehavior(this);
+			component.add(this.onBatchAjaxBehavior);
+		}
+		else
+		{
+			this.onCreateAjaxBehavior = this.newOnCreateAjaxBehavior(this);
+			component.add(this.onCreateAjaxBehavior);
 
-		this.onUpdateAjaxBehavior = this.newOnUpdateAjaxBehavior(this);
-		component.add(this.onUpdateAjaxBehavior);
+			this.onUpdateAjaxBehavior = this.newOnUpdateAjaxBehavior(this);
+			component.add(this.onUpdateAjaxBehavior);
 
-		this.onDeleteAjaxBehavior = this.newOnDeleteAjaxBehavior(this);
-		component.add(this.onDeleteAjaxBehavior);
+			this.onDeleteAjaxBehavior = this.newOnDeleteAjaxBehavior(this);
+			component.add(this.onDeleteAjaxBehavior);
+		}
 
 		// toolbar buttons //
 		for (ToolbarButton button : this.getVisibleToolbarButtons())
@@ -205,6 +215,18 @@ public abstract class DataTableBehavior extends KendoUIBehavior implements IJQue
 		return false;
 	}
 
+	/**
+	 * Indicates whether the data-source operates in batch mode<br>
+	 * If {@code true}, the 'create', 'update' and 'destroy' transports are wired to a single {@link DataSourceBatchAjaxBehavior}
+	 *
+	 * @return false by default
+	 * @see <a href="https://docs.telerik.com/kendo-ui/api/javascript/data/datasource/configuration/batch">configuration-batch</a>
+	 */
+	protected boolean isBatchMode()
+	{
+		return false;
+	}
+
 	/**
 	 * Gets the {@code List} of {@link ToolbarButton}{@code s}
 	 * 
@@ -438,9 +460,20 @@ public abstract class DataTableBehavior extends KendoUIBehavior implements IJQue
 		this.dataSource.set("serverSorting", true);
 		this.dataSource.set("serverFiltering", true);
 		this.dataSource.setTransportRead(this.getReadCallbackFunction());
-		this.dataSource.setTransportCreate(this.onCreateAjaxBehavior.getCallbackFunction());
-		this.dataSource.setTransportUpdate(this.onUpdateAjaxBehavior.getCallbackFunction());
-		this.dataSource.setTransportDelete(this.onDeleteAjaxBehavior.getCallbackFunction());
+
+		if (this.onBatchAjaxBehavior != null)
+		{
+			this.dataSource.set("batch", true);
+			this.dataSource.setTransportCreate(this.onBatchAjaxBehavior.getCallbackFunction(DataSourceBatchAjaxBehavior.CREATE));
+			this.dataSource.setTransportUpdate(this.onBatchAjaxBehavior.getCallbackFunction(DataSourceBatchAjaxBehavior.UPDATE));
+			this.dataSource.setTransportDelete(this.onBatchAjaxBehavior.getCallbackFunction(DataSourceBatchAjaxBehavior.DELETE));
+		}
+		else
+		{
+			this.dataSource.setTransportCreate(this.onCreateAjaxBehavior.getCallbackFunction());
+			this.dataSource.setTransportUpdate(this.onUpdateAjaxBehavior.getCallbackFunction());
+			this.dataSource.setTransportDelete(this.onDeleteAjaxBehavior.getCallbackFunction());
+		}
 
 		this.onConfigure(this.dataSource); // last chance to set options
 
@@ -520,6 +553,26 @@ public abstract class DataTableBehavior extends KendoUIBehavior implements IJQue
 		{
 			this.listener.onDelete(target, ((DataSourceEvent) event).getObject());
 		}
+
+		if (event instanceof BatchEvent)
+		{
+			BatchEvent e = (BatchEvent) event;
+
+			switch (e.getOperation())
+			{
+			case DataSourceBatchAjaxBehavior.CREATE:
+				this.listener.onCreate(target, e.getObjects());
+				break;
+			case DataSourceBatchAjaxBehavior.UPDATE:
+				this.listener.onUpdate(target, e.getObjects());
+				break;
+			case DataSourceBatchAjaxBehavior.DELETE:
+				this.listener.onDelete(target, e.getObjects());
+				break;
+			default:
+				break;
+			}
+		}
 	}
 
 	// Factories //
@@ -707,6 +760,17 @@ public abstract class DataTableBehavior extends KendoUIBehavior implements IJQue
 		};
 	}
 
+	/**
+	 * Gets a new {@link DataSourceBatchAjaxBehavior} that will be wired to the datasource's 'create', 'update' and 'destroy' events, in batch mode
+	 *
+	 * @param source the {@link IJQueryAjaxAware}
+	 * @return a new {@code DataSourceBatchAjaxBehavior}
+	 */
+	protected DataSourceBatchAjaxBehavior newOnBatchAjaxBehavior(IJQueryAjaxAware source)
+	{
+		return new DataSourceBatchAjaxBehavior(source);
+	}
+
 	/**
 	 * Gets the {@link JQueryAjaxBehavior} that will be called when the user clicks a toolbar button
 	 *
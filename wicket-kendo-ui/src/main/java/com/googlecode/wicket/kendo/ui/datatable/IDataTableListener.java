@@ -120,4 +120,52 @@ public interface IDataTableListener extends IClusterable
 	 * @param object the {@link JSONObject} holding the row data
 	 */
 	void onDelete(AjaxRequestTarget target, JSONObject object);
+
+	/**
+	 * Triggered when datasource 'create' function is raised, in batch mode<br>
+	 * Calls {@link #onCreate(AjaxRequestTarget, JSONObject)} for each object by default
+	 * 
+	 * @param target the {@link AjaxRequestTarget}
+	 * @param objects the {@code List} of {@link JSONObject}{@code s} holding the rows data
+	 * @see DataTable#isBatchMode()
+	 */
+	default void onCreate(AjaxRequestTarget target, List<JSONObject> objects)
+	{
+		for (JSONObject object : objects)
+		{
+			this.onCreate(target, object);
+		}
+	}
+
+	/**
+	 * Triggered when datasource 'update' function is raised, in batch mode<br>
+	 * Calls {@link #onUpdate(AjaxRequestTarget, JSONObject)} for each object by default
+	 * 
+	 * @param target the {@link AjaxRequestTarget}
+	 * @param objects the {@code List} of {@link JSONObject}{@code s} holding the rows data
+	 * @see DataTable#isBatchMode()
+	 */
+	default void onUpdate(AjaxRequestTarget target, List<JSONObject> objects)
+	{
+		for (JSONObject object : objects)
+		{
+			this.onUpdate(target, object);
+		}
+	}
+
+	/**
+	 * Triggered when datasource 'destroy' function is raised, in batch mode<br>
+	 * Calls {@link #onDelete(AjaxRequestTarget, JSONObject)} for each object by default
+	 * 
+	 * @param target the {@link AjaxRequestTarget}
+	 * @param objects the {@code List} of {@link JSONObject}{@code s} holding the rows data
+	 * @see DataTable#isBatchMode()
+	 */
+	default void onDelete(AjaxRequestTarget target, List<JSONObject> objects)
+	{
+		for (JSONObject object : objects)
+		{
+			this.onDelete(target, object);
+		}
+	}
 }
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.datatable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+
+import org.apache.wicket.markup.repeater.data.IDataProvider;
+
+/**
+ * Specialization of {@link IDataProvider} supporting keyset (seek) pagination<br>
+ * When the {@link DataTable} requests the page that directly follows an already served page, the {@link DataProviderBehavior} calls {@link #iterator(Serializable, long)} with the key
+ * of the last row of the served page, instead of {@link #iterator(long, long)}. This allows the underlying query to use a seek predicate (ie: {@code WHERE id > :key}) rather than an
+ * {@code OFFSET}, which cost grows with the page number.<br>
+ * <br>
+ * <b>Note:</b> keys are remembered per sort & filter state, random page jumps still fall back to {@link #iterator(long, long)}
+ *
+ * @param <T> the model object type
+ * @param <K> the key type
+ * @author Sebastien Briquet - sebfz1
+ */
+public interface IKeysetDataProvider<T, K extends Serializable> extends IDataProvider<T>
+{
+	/**
+	 * Gets the key of the supplied object, according to the current sort state
+	 *
+	 * @param object the object
+	 * @return the key
+	 */
+	K getKey(T object);
+
+	/**
+	 * Gets an iterator for the {@code count} objects that directly follow the object having the supplied key, according to the current sort & filter states
+	 *
+	 * @param key the key of the last object of the previous page
+	 * @param count the number of objects to return
+	 * @return the iterator
+	 */
+	Iterator<? extends T> iterator(K key, long count);
+}
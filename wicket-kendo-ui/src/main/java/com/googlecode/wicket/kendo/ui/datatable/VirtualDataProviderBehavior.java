@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.datatable;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.wicket.markup.repeater.data.IDataProvider;
+import org.apache.wicket.model.IModel;
+import org.apache.wicket.request.IRequestParameters;
+import org.apache.wicket.util.lang.Generics;
+
+import com.github.openjson.JSONArray;
+import com.github.openjson.JSONObject;
+import com.googlecode.wicket.kendo.ui.datatable.column.IColumn;
+
+/**
+ * Provides the {@link VirtualDataTable} data source behavior<br>
+ * Each read is served as a window of rows: the requested rows plus the next {@link #getPrefetchCount(long)} rows are read from the {@link IDataProvider} using a single iterator, and kept
+ * in a (transient) window cache. Subsequent requests that fall within the window - adjacent or overlapping - are then served without reading the {@code IDataProvider} again.<br>
+ * The window is discarded as soon as the sort or filter state changes, or when {@link #invalidate()} is called.
+ *
+ * @param <T> the type of the model object
+ * @author Sebastien Briquet - sebfz1
+ */
+public class VirtualDataProviderBehavior<T> extends DataProviderBehavior<T>
+{
+	private static final long serialVersionUID = 1L;
+
+	/** the current window, lost on serialization */
+	private transient Window window = null;
+
+	/**
+	 * Constructor
+	 *
+	 * @param columns the list of {@link IColumn}
+	 * @param provider the {@link IDataProvider}
+	 */
+	public VirtualDataProviderBehavior(final IModel<List<IColumn>> columns, final IDataProvider<T> provider)
+	{
+		super(columns, provider);
+	}
+
+	// Properties //
+
+	/**
+	 * Gets the number of rows to read in advance, after the requested ones
+	 *
+	 * @param count the number of requested rows
+	 * @return {@code count} by default, so the next window is read within the same iteration
+	 */
+	protected long getPrefetchCount(long count)
+	{
+		return count;
+	}
+
+	// Methods //
+
+	/**
+	 * Discards the current window, so the next read will hit the {@link IDataProvider}
+	 */
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+
+		this.window = null;
+	}
+
+	@Override
+	protected String getResponse(IRequestParameters parameters)
+	{
+		final int first = parameters.getParameterValue("skip").toInt(0);
+		final int count = parameters.getParameterValue("take").toInt(Short.MAX_VALUE);
+		final String state = getState(parameters);
+
+		if (this.window == null || !this.window.contains(state, first, count))
+		{
+			this.setProviderState(parameters);
+			this.window = this.newWindow(state, first, count + this.getPrefetchCount(count));
+		}
+
+		final JSONArray results = this.window.get(first, count);
+
+		JSONObject object = new JSONObject();
+		object.put("results", results);
+		object.put("__count", this.window.size);
+
+		this.setRowCount(results.length());
+		this.onResponse(first, count, results.length());
+
+		return object.toString();
+	}
+
+	// Factories //
+
+	/**
+	 * Reads a new {@link Window} from the {@link IDataProvider}
+	 *
+	 * @param state the sort and filter state signature
+	 * @param first the index of the first row
+	 * @param count the number of rows to read
+	 * @return a new {@link Window}
+	 */
+	private Window newWindow(String state, long first, long count)
+	{
+		final List<JSONObject> rows = Generics.newArrayList();
+		final Iterator<? extends T> iterator = this.iterator(first, count);
+
+		if (iterator != null)
+		{
+			while (iterator.hasNext())
+			{
+				rows.add(this.newJsonRow(iterator.next()));
+			}
+		}
+
+		return new Window(state, first, this.getDataProvider().size(), rows);
+	}
+
+	// Classes //
+
+	/**
+	 * Window of already rendered rows
+	 */
+	private static class Window
+	{
+		private final String state;
+		private final long first;
+		private final long size;
+		private final List<JSONObject> rows;
+
+		public Window(String state, long first, long size, List<JSONObject> rows)
+		{
+			this.state = state;
+			this.first = first;
+			this.size = size;
+			this.rows = rows;
+		}
+
+		/**
+		 * Indicates whether the window contains the requested range, for the same sort and filter state
+		 *
+		 * @param state the sort and filter state signature
+		 * @param first the index of the first row
+		 * @param count the number of rows
+		 * @return {@code true} or {@code false}
+		 */
+		public boolean contains(String state, long first, long count)
+		{
+			final long last = Math.min(first + count, this.size); // the last row (exclusive) that can be served
+
+			return this.state.equals(state) && first >= this.first && last <= this.first + this.rows.size();
+		}
+
+		/**
+		 * Gets the requested range of rows
+		 *
+		 * @param first the index of the first row
+		 * @param count the number of rows
+		 * @return the rows
+		 */
+		public JSONArray get(long first, long count)
+		{
+			final int from = (int) (first - this.first);
+			final int to = (int) Math.min(from + count, this.rows.size());
+
+			return new JSONArray(this.rows.subList(Math.min(from, to), to));
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.datatable;
+
+import java.util.List;
+
+import org.apache.wicket.behavior.AbstractAjaxBehavior;
+import org.apache.wicket.markup.repeater.data.IDataProvider;
+import org.apache.wicket.model.IModel;
+import org.apache.wicket.model.Model;
+
+import com.googlecode.wicket.jquery.core.JQueryBehavior;
+import com.googlecode.wicket.jquery.core.Options;
+import com.googlecode.wicket.kendo.ui.datatable.column.IColumn;
+
+/**
+ * Provides a Kendo UI data-table using virtual scrolling instead of paging<br>
+ * Rows are fetched by windows of {@code rows} rows while the user scrolls, the next window being prefetched while the current one renders.<br>
+ * <br>
+ * <b>Note:</b> the table should have a fixed height (ie: {@code new Options("height", 400)})
+ *
+ * @param <T> the model object type
+ * @author Sebastien Briquet - sebfz1
+ * @see <a href="https://docs.telerik.com/kendo-ui/api/javascript/ui/grid/configuration/scrollable.virtual">scrollable.virtual</a>
+ */
+public class VirtualDataTable<T> extends DataTable<T>
+{
+	private static final long serialVersionUID = 1L;
+
+	/** the user's 'dataBound' handler, if any, chained to the virtual scrolling one */
+	private final Object dataBound;
+
+	/**
+	 * Constructor
+	 *
+	 * @param id the markup id
+	 * @param provider the {@link IDataProvider}
+	 * @param rows the number of rows per window
+	 */
+	public VirtualDataTable(String id, final IDataProvider<T> provider, final long rows)
+	{
+		this(id, provider, rows, new Options());
+	}
+
+	/**
+	 * Main constructor
+	 *
+	 * @param id the markup id
+	 * @param provider the {@link IDataProvider}
+	 * @param rows the number of rows per window
+	 * @param options the {@link Options}
+	 */
+	public VirtualDataTable(String id, final IDataProvider<T> provider, final long rows, Options options)
+	{
+		super(id, provider, rows, options);
+
+		this.dataBound = options.get("dataBound");
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param id the markup id
+	 * @param columns the list of {@link IColumn}
+	 * @param provider the {@link IDataProvider}
+	 * @param rows the number of rows per window
+	 */
+	public VirtualDataTable(String id, final List<IColumn> columns, final IDataProvider<T> provider, final long rows)
+	{
+		this(id, Model.ofList(columns), provider, rows, new Options());
+	}
+
+	/**
+	 * Main constructor
+	 *
+	 * @param id the markup id
+	 * @param columns the list of {@link IColumn}
+	 * @param provider the {@link IDataProvider}
+	 * @param rows the number of rows per window
+	 * @param options the {@link Options}
+	 */
+	public VirtualDataTable(String id, final List<IColumn> columns, final IDataProvider<T> provider, final long rows, Options options)
+	{
+		this(id, Model.ofList(columns), provider, rows, options);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param id the markup id
+	 * @param columns the list of {@link IColumn}
+	 * @param provider the {@link IDataProvider}
+	 * @param rows the number of rows per window
+	 */
+	public VirtualDataTable(String id, final IModel<List<IColumn>> columns, final IDataProvider<T> provider, final long rows)
+	{
+		this(id, columns, provider, rows, new Options());
+	}
+
+	/**
+	 * Main constructor
+	 *
+	 * @param id the markup id
+	 * @param columns the list of {@link IColumn}
+	 * @param provider the {@link IDataProvider}
+	 * @param rows the number of rows per window
+	 * @param options the {@link Options}
+	 */
+	public VirtualDataTable(String id, final IModel<List<IColumn>> columns, final IDataProvider<T> provider, final long rows, Options options)
+	{
+		super(id, columns, provider, rows, options);
+
+		this.dataBound = options.get("dataBound");
+	}
+
+	// Events //
+
+	@Override
+	public void onConfigure(JQueryBehavior behavior)
+	{
+		super.onConfigure(behavior);
+
+		if (behavior.getOption("scrollable") == null)
+		{
+			behavior.setOption("scrollable", "{ virtual: true }");
+		}
+
+		behavior.setOption("pageable", false);
+
+		if (this.dataBound != null)
+		{
+			behavior.setOption("dataBound", String.format("function(e) { datatable_virtual_dataBound(e); (%s).call(this, e); }", this.dataBound)); // DataTable.js
+		}
+		else
+		{
+			behavior.setOption("dataBound", "datatable_virtual_dataBound"); // DataTable.js
+		}
+	}
+
+	// Factories //
+
+	/**
+	 * Gets a new {@link VirtualDataProviderBehavior}
+	 *
+	 * @param columns the list of {@link IColumn}
+	 * @param provider the {@link IDataProvider}
+	 * @return the {@link AbstractAjaxBehavior}
+	 */
+	@Override
+	protected AbstractAjaxBehavior newDataProviderBehavior(final IModel<List<IColumn>> columns, final IDataProvider<T> provider)
+	{
+		return new VirtualDataProviderBehavior<T>(columns, provider);
+	}
+}
@@ -16,13 +16,19 @@
  */
 package com.googlecode.wicket.kendo.ui.dataviz.chart;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 import org.apache.wicket.ajax.AjaxRequestTarget;
 import org.apache.wicket.core.request.handler.IPartialPageRequestHandler;
 import org.apache.wicket.model.IModel;
 import org.apache.wicket.model.Model;
+import org.apache.wicket.request.IRequestParameters;
 
+import com.github.openjson.JSONArray;
+import com.github.openjson.JSONException;
+import com.github.openjson.JSONObject;
 import com.github.openjson.JSONString;
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
 import com.googlecode.wicket.jquery.core.JQueryGenericContainer;
@@ -34,6 +40,7 @@ import com.googlecode.wicket.jquery.core.converter.JsonConverter;
 import com.googlecode.wicket.kendo.ui.KendoBehaviorFactory;
 import com.googlecode.wicket.kendo.ui.KendoDataSource;
 import com.googlecode.wicket.kendo.ui.KendoUIBehavior;
+import com.googlecode.wicket.kendo.ui.dataviz.chart.reducer.IChartReducer;
 import com.googlecode.wicket.kendo.ui.dataviz.chart.series.Series;
 
 /**
@@ -301,6 +308,88 @@ public class Chart<T> extends JQueryGenericContainer<List<T>> implements IChartL
 		return this.converter;
 	}
 
+	/**
+	 * Gets the {@link IChartReducer} to be applied to the data before being sent<br>
+	 * <b>Note:</b> when the data-source is filtered (ie: on zoom), the data is first restricted to the range of the filter (see {@link #getRange(String)}), so the resolution follows
+	 * the requested range.
+	 *
+	 * @return {@code null} by default, meaning the whole data is sent
+	 * @see #getResolution(int)
+	 */
+	protected IChartReducer<T> getReducer()
+	{
+		return null;
+	}
+
+	/**
+	 * Gets the max number of points to send, according to the chart's pixel width
+	 *
+	 * @param width the chart's width, in pixel
+	 * @return the width by default (one point per pixel)
+	 */
+	protected int getResolution(int width)
+	{
+		return width;
+	}
+
+	/**
+	 * Gets the x-range of the data-source filter sent by the {@link ChartDataSource}<br>
+	 * The range is made of the lower ({@code gt}, {@code gte}) and upper ({@code lt}, {@code lte}) bounds of the filter entries, which values are either numbers or ISO-8601
+	 * dates (converted to milliseconds).
+	 *
+	 * @param filter the filter, as json
+	 * @return the range as {@code [from, to]}, or {@code null} if the filter has no bound
+	 */
+	protected double[] getRange(String filter)
+	{
+		if (filter == null || filter.isEmpty() || "null".equals(filter))
+		{
+			return null;
+		}
+
+		final double[] range = { Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY };
+		boolean bounded = false;
+
+		try
+		{
+			final JSONObject object = new JSONObject(filter);
+			final JSONArray filters = object.optJSONArray("filters");
+
+			for (int i = 0; filters != null && i < filters.length(); i++)
+			{
+				final JSONObject entry = filters.optJSONObject(i);
+				final Double value = entry != null ? toDouble(entry.opt("value")) : null;
+
+				if (value != null)
+				{
+					switch (entry.optString("operator"))
+					{
+					case "gt":
+					case "gte":
+						range[0] = Math.max(range[0], value);
+						bounded = true;
+						break;
+
+					case "lt":
+					case "lte":
+						range[1] = Math.min(range[1], value);
+						bounded = true;
+						break;
+
+					default:
+						break;
+					}
+				}
+			}
+		}
+		catch (JSONException e)
+		{
+			return null;
+		}
+
+		return bounded ? range : null;
+	}
+
 	@Override
 	public boolean isSeriesClickEventEnabled()
 	{
@@ -409,6 +498,64 @@ public class Chart<T> extends JQueryGenericContainer<List<T>> implements IChartL
 	 */
 	protected AjaxCallbackBehavior newListModelBehavior(final IModel<List<T>> model, IJsonConverter<T> converter)
 	{
-		return new ListModelBehavior<T>(model, converter);
+		return new ListModelBehavior<T>(model, converter) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected List<T> getList(IRequestParameters parameters)
+			{
+				List<T> list = super.getList(parameters);
+				final IChartReducer<T> reducer = Chart.this.getReducer();
+
+				if (reducer != null && list != null)
+				{
+					final double[] range = Chart.this.getRange(parameters.getParameterValue("filter").toOptionalString()); // ChartDataSource
+					final int width = parameters.getParameterValue("width").toInt(0); // ChartDataSource
+
+					if (range != null)
+					{
+						list = reducer.range(list, range[0], range[1]);
+					}
+
+					if (width > 0)
+					{
+						list = reducer.reduce(list, Chart.this.getResolution(width));
+					}
+				}
+
+				return list;
+			}
+		};
+	}
+
+	// Helpers //
+
+	/**
+	 * Converts a filter value to a double
+	 *
+	 * @param value the filter value, either a number or an ISO-8601 date
+	 * @return the number, the date in milliseconds, or {@code null} if the value cannot be converted
+	 */
+	private static Double toDouble(Object value)
+	{
+		if (value instanceof Number)
+		{
+			return ((Number) value).doubleValue();
+		}
+
+		if (value instanceof String)
+		{
+			try
+			{
+				return (double) Instant.parse((String) value).toEpochMilli();
+			}
+			catch (DateTimeParseException e)
+			{
+				return null;
+			}
+		}
+
+		return null;
 	}
 }
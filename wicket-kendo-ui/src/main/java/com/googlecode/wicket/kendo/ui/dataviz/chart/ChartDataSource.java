@@ -21,7 +21,8 @@ import org.apache.wicket.Component;
 import com.googlecode.wicket.kendo.ui.KendoDataSource;
 
 /**
- * Provide the data-source for the {@link Chart}
+ * Provide the data-source for the {@link Chart}<br>
+ * The chart's pixel width is sent along with the read request ({@code width} parameter), so the data can be reduced accordingly.
  *
  * @author Sebastien Briquet - sebfz1
  */
@@ -34,6 +35,6 @@ public class ChartDataSource extends KendoDataSource
 		super(component);
 		
 		this.set("serverFiltering", true);
-		this.transport.set("parameterMap", "function(data) { return { filter: JSON.stringify(data.filter) }; }");
+		this.transport.set("parameterMap", String.format("function(data) { return { filter: JSON.stringify(data.filter), width: Math.round(jQuery('#%s').width()) }; }", component.getMarkupId()));
 	}
 }
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.dataviz.chart.reducer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Base class for {@link IChartReducer}{@code s} working on the x-value of the points
+ *
+ * @param <T> the model object type
+ * @author Sebastien Briquet - sebfz1
+ */
+public abstract class AbstractChartReducer<T> implements IChartReducer<T>
+{
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Gets the x-value of the point
+	 *
+	 * @param object the point
+	 * @return the x-value (ie: the time in milliseconds for date axis)
+	 */
+	protected abstract double getX(T object);
+
+	@Override
+	public List<T> range(List<T> list, double from, double to)
+	{
+		final List<T> points = asRandomAccess(list);
+		final int start = this.indexOf(points, from, false);
+		final int end = this.indexOf(points, to, true);
+
+		if (start == 0 && end == points.size())
+		{
+			return list;
+		}
+
+		return new ArrayList<T>(points.subList(start, Math.max(start, end)));
+	}
+
+	/**
+	 * Gets the index of the first point which x-value is greater than (or equal to, if not strict) the supplied x-value
+	 *
+	 * @param points the list of points, sorted by x-value
+	 * @param x the x-value
+	 * @param strict whether the x-value should be strictly greater
+	 * @return the index, or the size of the list if there is no such point
+	 */
+	private int indexOf(List<T> points, double x, boolean strict)
+	{
+		int low = 0;
+		int high = points.size();
+
+		while (low < high)
+		{
+			final int middle = (low + high) >>> 1;
+			final double value = this.getX(points.get(middle));
+
+			if (value < x || (strict && value == x))
+			{
+				low = middle + 1;
+			}
+			else
+			{
+				high = middle;
+			}
+		}
+
+		return low;
+	}
+
+	/**
+	 * Gets a random access view of the supplied list
+	 *
+	 * @param list the {@link List}
+	 * @return the list itself, or a copy if it does not implement {@link RandomAccess}
+	 */
+	protected static <T> List<T> asRandomAccess(List<T> list)
+	{
+		if (list instanceof RandomAccess)
+		{
+			return list;
+		}
+
+		return new ArrayList<T>(list);
+	}
+
+	/**
+	 * Gets the bucket index of an x-value
+	 *
+	 * @param x the x-value
+	 * @param min the x-value of the first point
+	 * @param width the width of a bucket
+	 * @param count the number of buckets
+	 * @return the bucket index
+	 */
+	protected static int bucketOf(double x, double min, double width, int count)
+	{
+		if (width > 0)
+		{
+			return Math.min((int) ((x - min) / width), count - 1);
+		}
+
+		return 0;
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.dataviz.chart.reducer;
+
+import java.util.List;
+
+import org.apache.wicket.util.io.IClusterable;
+
+import com.googlecode.wicket.kendo.ui.dataviz.chart.Chart;
+
+/**
+ * Specifies the reduction step applied to the {@link Chart} data, before being serialized<br>
+ * A reducer is typically used to downsample or aggregate series having far more points than the chart can display.
+ *
+ * @param <T> the model object type
+ * @author Sebastien Briquet - sebfz1
+ */
+public interface IChartReducer<T> extends IClusterable
+{
+	/**
+	 * Reduces the supplied list of points
+	 *
+	 * @param list the list of points, sorted by x-value
+	 * @param size the max number of points to return (the resolution)
+	 * @return the reduced list, or the supplied list if it does not need to be reduced
+	 */
+	List<T> reduce(List<T> list, int size);
+
+	/**
+	 * Gets the points which x-value is within the supplied range (ie: the zoom range)
+	 *
+	 * @param list the list of points, sorted by x-value
+	 * @param from the lower bound, inclusive
+	 * @param to the upper bound, inclusive
+	 * @return the points within the range, or the supplied list if all points are within the range
+	 */
+	List<T> range(List<T> list, double from, double to);
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.dataviz.chart.reducer;
+
+import java.util.List;
+
+import org.apache.wicket.util.lang.Generics;
+
+/**
+ * Provides a <i>Largest-Triangle-Three-Buckets</i> (LTTB) downsampling {@link IChartReducer}<br>
+ * The points are split in {@code size - 2} buckets; the first and last points are always kept and, for each bucket, the point forming the largest triangle with the previously
+ * selected point and the average of the next bucket is selected. This preserves the visual shape of the series (peaks and troughs).
+ *
+ * @param <T> the model object type
+ * @author Sebastien Briquet - sebfz1
+ * @see <a href="https://skemman.is/bitstream/1946/15343/3/SS_MSthesis.pdf">Downsampling Time Series for Visual Representation</a>
+ */
+public abstract class LttbReducer<T> extends AbstractChartReducer<T>
+{
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Gets the y-value of the point
+	 *
+	 * @param object the point
+	 * @return the y-value
+	 */
+	protected abstract double getY(T object);
+
+	@Override
+	public List<T> reduce(List<T> list, int size)
+	{
+		final int length = list.size();
+
+		if (size >= length || size < 3)
+		{
+			return list;
+		}
+
+		final List<T> points = asRandomAccess(list);
+		final List<T> sampled = Generics.newArrayList(size);
+		final double every = (double) (length - 2) / (size - 2);
+
+		int a = 0;
+		sampled.add(points.get(a));
+
+		for (int i = 0; i < size - 2; i++)
+		{
+			// average point of the next bucket //
+			final int avgStart = (int) Math.floor((i + 1) * every) + 1;
+			final int avgEnd = Math.min((int) Math.floor((i + 2) * every) + 1, length);
+
+			double avgX = 0;
+			double avgY = 0;
+
+			for (int j = avgStart; j < avgEnd; j++)
+			{
+				avgX += this.getX(points.get(j));
+				avgY += this.getY(points.get(j));
+			}
+
+			avgX /= (avgEnd - avgStart);
+			avgY /= (avgEnd - avgStart);
+
+			// point of the current bucket forming the largest triangle //
+			final int rangeStart = (int) Math.floor(i * every) + 1;
+			final int rangeEnd = (int) Math.floor((i + 1) * every) + 1;
+
+			final double ax = this.getX(points.get(a));
+			final double ay = this.getY(points.get(a));
+
+			double max = -1;
+			int next = rangeStart;
+
+			for (int j = rangeStart; j < rangeEnd; j++)
+			{
+				final T point = points.get(j);
+				final double area = Math.abs((ax - avgX) * (this.getY(point) - ay) - (ax - this.getX(point)) * (avgY - ay));
+
+				if (area > max)
+				{
+					max = area;
+					next = j;
+				}
+			}
+
+			sampled.add(points.get(next));
+			a = next;
+		}
+
+		sampled.add(points.get(length - 1));
+
+		return sampled;
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.dataviz.chart.reducer;
+
+import java.util.List;
+
+import org.apache.wicket.util.lang.Generics;
+
+/**
+ * Provides a min/max bucketing {@link IChartReducer}<br>
+ * The x-range of the points is split in {@code size / 2} equal buckets (ie: one bucket per pixel column when the size is twice the chart width), and the points having the min and
+ * the max y-values of each bucket are kept, in their original order. This guarantees that no peak is lost, at the cost of a lesser accuracy than {@link LttbReducer} for smooth
+ * series.
+ *
+ * @param <T> the model object type
+ * @author Sebastien Briquet - sebfz1
+ */
+public abstract class MinMaxReducer<T> extends AbstractChartReducer<T>
+{
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Gets the y-value of the point
+	 *
+	 * @param object the point
+	 * @return the y-value
+	 */
+	protected abstract double getY(T object);
+
+	@Override
+	public List<T> reduce(List<T> list, int size)
+	{
+		final int length = list.size();
+
+		if (size >= length || size < 2)
+		{
+			return list;
+		}
+
+		final List<T> points = asRandomAccess(list);
+		final List<T> reduced = Generics.newArrayList(size);
+
+		final int count = size / 2;
+		final double min = this.getX(points.get(0));
+		final double width = (this.getX(points.get(length - 1)) - min) / count;
+
+		int bucket = 0;
+		int lo = 0; // index of the min point of the current bucket
+		int hi = 0; // index of the max point of the current bucket
+
+		for (int i = 1; i < length; i++)
+		{
+			final T point = points.get(i);
+			final int index = bucketOf(this.getX(point), min, width, count);
+
+			if (index != bucket)
+			{
+				this.flush(points, lo, hi, reduced);
+
+				bucket = index;
+				lo = i;
+				hi = i;
+			}
+			else
+			{
+				final double y = this.getY(point);
+
+				if (y < this.getY(points.get(lo)))
+				{
+					lo = i;
+				}
+
+				if (y > this.getY(points.get(hi)))
+				{
+					hi = i;
+				}
+			}
+		}
+
+		this.flush(points, lo, hi, reduced);
+
+		return reduced;
+	}
+
+	/**
+	 * Adds the min and max points of a bucket to the reduced list, in their original order
+	 *
+	 * @param points the points
+	 * @param lo the index of the min point
+	 * @param hi the index of the max point
+	 * @param reduced the reduced list
+	 */
+	private void flush(List<T> points, int lo, int hi, List<T> reduced)
+	{
+		reduced.add(points.get(Math.min(lo, hi)));
+
+		if (lo != hi)
+		{
+			reduced.add(points.get(Math.max(lo, hi)));
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.dataviz.chart.reducer;
+
+import java.util.List;
+
+import org.apache.wicket.util.lang.Generics;
+
+/**
+ * Provides a time-bucket aggregation {@link IChartReducer}<br>
+ * The x-range of the points (ie: the time in milliseconds) is split in buckets of equal duration - at least {@link #getInterval()} - and the points of each bucket are aggregated
+ * into a single point by {@link #aggregate(double, List)} (ie: average, sum, last value, etc)
+ *
+ * @param <T> the model object type
+ * @author Sebastien Briquet - sebfz1
+ */
+public abstract class TimeBucketReducer<T> extends AbstractChartReducer<T>
+{
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Gets the minimum duration of a bucket, in the x-value unit
+	 *
+	 * @return {@code 0} by default, meaning that the duration only depends on the resolution
+	 */
+	protected double getInterval()
+	{
+		return 0;
+	}
+
+	/**
+	 * Aggregates the points of a bucket
+	 *
+	 * @param x the x-value of the bucket start
+	 * @param bucket the (non empty) points of the bucket
+	 * @return the aggregated point
+	 */
+	protected abstract T aggregate(double x, List<T> bucket);
+
+	@Override
+	public List<T> reduce(List<T> list, int size)
+	{
+		final int length = list.size();
+
+		if (size >= length || size < 1)
+		{
+			return list;
+		}
+
+		final double min = this.getX(list.get(0));
+		final double width = Math.max(this.getInterval(), (this.getX(list.get(length - 1)) - min) / size);
+		final int count = width > 0 ? (int) Math.min(size, Math.ceil((this.getX(list.get(length - 1)) - min) / width) + 1) : 1;
+
+		final List<T> reduced = Generics.newArrayList(count);
+		List<T> bucket = Generics.newArrayList();
+		int current = 0;
+
+		for (T point : list)
+		{
+			final int index = bucketOf(this.getX(point), min, width, count);
+
+			if (index != current && !bucket.isEmpty())
+			{
+				reduced.add(this.aggregate(min + current * width, bucket));
+				bucket = Generics.newArrayList();
+			}
+
+			current = index;
+			bucket.add(point);
+		}
+
+		if (!bucket.isEmpty())
+		{
+			reduced.add(this.aggregate(min + current * width, bucket));
+		}
+
+		return reduced;
+	}
+}
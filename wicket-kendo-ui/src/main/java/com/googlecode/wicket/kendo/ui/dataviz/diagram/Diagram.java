@@ -356,4 +356,6 @@ public class Diagram<T extends IDiagramNode<T>> extends JQueryGenericContainer<L
 	{
 		return new ListModelBehavior<T>(model, converter);
 	}
+
+	// Helpers //
 }
@@ -17,10 +17,12 @@
 package com.googlecode.wicket.kendo.ui.form.dropdown.lazy;
 
 import java.util.List;
+import java.util.Map;
 
 import org.apache.wicket.markup.html.form.TextField;
 import org.apache.wicket.model.IModel;
 import org.apache.wicket.model.Model;
+import org.apache.wicket.util.lang.Generics;
 
 import com.googlecode.wicket.jquery.core.IJQueryWidget;
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
@@ -51,6 +53,9 @@ public class DropDownList<T> extends TextField<T> implements IJQueryWidget // NO
 	private final IModel<List<T>> choices;
 	private ChoiceModelBehavior<T> choiceModelBehavior;
 
+	/** index of current choices, by value - built on demand and cleared on detach */
+	private transient Map<String, T> index = null;
+
 	/** the data-source renderer */
 	private final IChoiceRenderer<? super T> renderer;
 
@@ -226,16 +231,34 @@ public class DropDownList<T> extends TextField<T> implements IJQueryWidget // NO
 	@Override
 	public void convertInput()
 	{
-		String input = this.getInput();
+		T choice = this.getIndex().get(this.getInput());
+
+		if (choice != null)
+		{
+			this.setConvertedInput(choice);
+		}
+	}
 
-		for (T choice : this.choices.getObject())
+	/**
+	 * Gets the index of current choices, by value<br>
+	 * The index is built once per request, so the submitted value is resolved without calling {@link IChoiceRenderer#getValue(Object)} on every choice
+	 *
+	 * @return the index
+	 */
+	private Map<String, T> getIndex()
+	{
+		if (this.index == null)
 		{
-			if (this.renderer.getValue(choice).equals(input))
+			final List<T> list = this.choices.getObject();
+			this.index = Generics.newHashMap(list.size());
+
+			for (T choice : list)
 			{
-				this.setConvertedInput(choice);
-				break;
+				this.index.putIfAbsent(this.renderer.getValue(choice), choice);
 			}
 		}
+
+		return this.index;
 	}
 
 	// Events //
@@ -260,6 +283,14 @@ public class DropDownList<T> extends TextField<T> implements IJQueryWidget // NO
 		}
 	}
 
+	@Override
+	protected void onDetach()
+	{
+		this.index = null; // choices may change between requests
+
+		super.onDetach();
+	}
+
 	@Override
 	public void onConfigure(JQueryBehavior behavior)
 	{
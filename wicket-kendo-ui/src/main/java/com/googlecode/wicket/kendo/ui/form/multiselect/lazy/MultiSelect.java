@@ -19,6 +19,7 @@ package com.googlecode.wicket.kendo.ui.form.multiselect.lazy;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.wicket.ajax.AjaxRequestTarget;
 import org.apache.wicket.markup.ComponentTag;
@@ -53,6 +54,9 @@ public abstract class MultiSelect<T> extends FormComponent<Collection<T>> implem
 
 	/** cache of current choices, needed to retrieve the user selected object */
 	private List<T> choices = null;
+
+	/** index of current choices, by value - rebuilt on demand after serialization */
+	private transient Map<String, T> index = null;
 	private ChoiceModelBehavior<T> choiceModelBehavior;
 
 	/** the data-source renderer */
@@ -193,10 +197,33 @@ public abstract class MultiSelect<T> extends FormComponent<Collection<T>> implem
 	private List<T> internalGetChoices(String input)
 	{
 		this.choices = this.getChoices(input);
+		this.index = null;
 
 		return this.choices;
 	}
 
+	/**
+	 * Gets the index of current choices, by value<br>
+	 * The index is built once per list of choices, so submitted values are resolved without calling {@link IChoiceRenderer#getValue(Object)} on every choice
+	 *
+	 * @return the index
+	 */
+	private Map<String, T> getIndex()
+	{
+		if (this.index == null)
+		{
+			final List<T> list = this.getChoices();
+			this.index = Generics.newHashMap(list.size());
+
+			for (T choice : list)
+			{
+				this.index.putIfAbsent(this.renderer.getValue(choice), choice);
+			}
+		}
+
+		return this.index;
+	}
+
 	/**
 	 * Get the list of choice according to the user-input
 	 * 
@@ -213,14 +240,15 @@ public abstract class MultiSelect<T> extends FormComponent<Collection<T>> implem
 
 		if (values != null)
 		{
+			final Map<String, T> index = this.getIndex();
+
 			for (String value : values)
 			{
-				for (T choice : this.choices)
+				T choice = index.get(value);
+
+				if (choice != null)
 				{
-					if (this.renderer.getValue(choice).equals(value))
-					{
-						list.add(choice);
-					}
+					list.add(choice);
 				}
 			}
 		}
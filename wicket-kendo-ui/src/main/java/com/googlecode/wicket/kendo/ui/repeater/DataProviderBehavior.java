@@ -22,6 +22,7 @@ import java.util.List;
 
 import org.apache.wicket.Component;
 import org.apache.wicket.markup.repeater.data.IDataProvider;
+import org.apache.wicket.request.IRequestHandler;
 import org.apache.wicket.request.IRequestParameters;
 
 import com.github.openjson.JSONArray;
@@ -32,7 +33,8 @@ import com.googlecode.wicket.jquery.core.template.IJQueryTemplate;
 import com.googlecode.wicket.jquery.core.utils.ListUtils;
 
 /**
- * Provides the {@link IDataProvider} data source {@link AjaxCallbackBehavior}
+ * Provides the {@link IDataProvider} data source {@link AjaxCallbackBehavior}<br>
+ * If the requested number of rows ({@code take}) exceeds {@link #getMaxRowCount()}, the rows are streamed by chunks (see {@link DataProviderRequestHandler})
  *
  * @param <T> the type of the model object
  * @author Sebastien Briquet - sebfz1
@@ -41,6 +43,9 @@ public class DataProviderBehavior<T> extends AjaxCallbackBehavior
 {
 	private static final long serialVersionUID = 1L;
 
+	/** default max number of rows that can be read at once */
+	public static final int MAX_ROWS = 1000;
+
 	private final IDataProvider<T> provider;
 	private final ITextRenderer<? super T> renderer;
 	private final IJQueryTemplate template;
@@ -86,6 +91,17 @@ public class DataProviderBehavior<T> extends AjaxCallbackBehavior
 		return Collections.emptyList();
 	}
 
+	/**
+	 * Gets the max number of rows that can be read at once<br>
+	 * Requests above this limit are served as a streamed response, by chunks of {@code #getMaxRowCount()} rows
+	 *
+	 * @return {@link #MAX_ROWS} by default
+	 */
+	protected int getMaxRowCount()
+	{
+		return MAX_ROWS;
+	}
+
 	@Override
 	protected String getResponse(IRequestParameters parameters)
 	{
@@ -106,20 +122,13 @@ public class DataProviderBehavior<T> extends AjaxCallbackBehavior
 		{
 			while (iterator.hasNext())
 			{
-				final T object = iterator.next();
-
-				// ITextRenderer //
-				final JSONObject result = this.renderer.render(object);
-
-				for (String property : this.getProperties())
-				{
-					result.put(property, this.renderer.getText(object, property));
-				}
-
-				results.put(result);
+				results.put(this.newJsonRow(iterator.next()));
 			}
 		}
 
+		this.setRowCount(results.length());
+		this.onResponse(first, count, results.length());
+
 		return payload.toString();
 	}
 
@@ -130,4 +139,69 @@ public class DataProviderBehavior<T> extends AjaxCallbackBehavior
 
 		this.provider.detach();
 	}
+
+	// Events //
+
+	/**
+	 * Triggered when the rows have been sent<br>
+	 * This method can be overridden to collect page-size / row-count metrics
+	 *
+	 * @param first the index of the first requested row
+	 * @param count the requested number of rows
+	 * @param rows the number of rows that have actually been sent
+	 */
+	protected void onResponse(long first, long count, long rows)
+	{
+		// noop
+	}
+
+	// Factories //
+
+	@Override
+	protected IRequestHandler newRequestHandler(IRequestParameters parameters)
+	{
+		final int first = parameters.getParameterValue("skip").toInt(0);
+		final int count = parameters.getParameterValue("take").toInt(Short.MAX_VALUE);
+
+		if (count > this.getMaxRowCount())
+		{
+			return new DataProviderRequestHandler<T>(this.getMimeType(), this.getEncoding(), this.provider, first, count, this.getMaxRowCount()) {
+
+				@Override
+				protected void onResponse(long first, long count, long rows)
+				{
+					DataProviderBehavior.this.setRowCount(rows);
+					DataProviderBehavior.this.setResponseSize(this.getSize());
+					DataProviderBehavior.this.onResponse(first, count, rows);
+				}
+
+				@Override
+				protected JSONObject newJsonRow(T bean)
+				{
+					return DataProviderBehavior.this.newJsonRow(bean);
+				}
+			};
+		}
+
+		return super.newRequestHandler(parameters);
+	}
+
+	/**
+	 * Gets a new JSON object from the bean
+	 *
+	 * @param bean T object
+	 * @return a new JSON object
+	 */
+	protected JSONObject newJsonRow(T bean)
+	{
+		// ITextRenderer //
+		final JSONObject result = this.renderer.render(bean);
+
+		for (String property : this.getProperties())
+		{
+			result.put(property, this.renderer.getText(bean, property));
+		}
+
+		return result;
+	}
 }
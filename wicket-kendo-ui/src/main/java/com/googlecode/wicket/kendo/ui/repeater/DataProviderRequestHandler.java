@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.repeater;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+import org.apache.wicket.WicketRuntimeException;
+import org.apache.wicket.markup.repeater.data.IDataProvider;
+import org.apache.wicket.request.IRequestCycle;
+import org.apache.wicket.request.IRequestHandler;
+import org.apache.wicket.request.http.WebResponse;
+import org.apache.wicket.util.lang.Args;
+import org.apache.wicket.util.string.Strings;
+
+import com.github.openjson.JSONObject;
+
+import com.googlecode.wicket.jquery.core.behavior.AjaxCallbackBehavior;
+
+/**
+ * Provides an {@link IRequestHandler} that streams the {@link IDataProvider} rows to the response, chunk by chunk<br>
+ * Only one chunk of rows is materialized at a time; each chunk is flushed to the client before the next one is read, so a slow client naturally throttles the reads (back-pressure).<br>
+ * <br>
+ * The response has the same format as the one of {@link DataProviderBehavior}: <code>{ "__count": size, "results": [ ... ] }</code>
+ *
+ * @param <T> the type of the model object
+ * @author Sebastien Briquet - sebfz1
+ */
+public abstract class DataProviderRequestHandler<T> implements IRequestHandler
+{
+	private final String mimetype;
+	private final String encoding;
+	private final IDataProvider<T> provider;
+	private final long first;
+	private final long count;
+	private final long chunk;
+
+	/** the number of bytes written so far */
+	private long size = 0;
+
+	/**
+	 * Constructor
+	 *
+	 * @param mimetype the content type
+	 * @param encoding the encoding
+	 * @param provider the {@link IDataProvider}
+	 * @param first the index of the first row
+	 * @param count the total number of rows to stream
+	 * @param chunk the max number of rows to read from the provider at once
+	 */
+	public DataProviderRequestHandler(String mimetype, String encoding, IDataProvider<T> provider, long first, long count, long chunk)
+	{
+		this.mimetype = Args.notEmpty(mimetype, "mimetype");
+		this.encoding = encoding;
+		this.provider = Args.notNull(provider, "provider");
+		this.first = first;
+		this.count = count;
+		this.chunk = Args.withinRange(1L, Long.MAX_VALUE, chunk, "chunk");
+	}
+
+	// Properties //
+
+	/**
+	 * Gets the number of bytes written so far
+	 *
+	 * @return the number of bytes
+	 */
+	public long getSize()
+	{
+		return this.size;
+	}
+
+	// Methods //
+
+	@Override
+	public void respond(IRequestCycle requestCycle)
+	{
+		final String charset = this.getEncoding(requestCycle);
+		final WebResponse response = (WebResponse) requestCycle.getResponse();
+		response.setContentType(this.mimetype + ";charset=" + charset);
+
+		final long size = this.provider.size();
+		final long total = Math.max(0, Math.min(this.count, size - this.first));
+
+		this.write(response, String.format("{\"__count\":%d,\"results\":[", size), charset);
+
+		long rows = 0;
+
+		while (rows < total)
+		{
+			final long length = Math.min(this.chunk, total - rows);
+			final Iterator<? extends T> iterator = this.provider.iterator(this.first + rows, length);
+
+			if (iterator == null)
+			{
+				break;
+			}
+
+			long read = 0;
+
+			while (iterator.hasNext() && read < length)
+			{
+				this.write(response, (rows + read > 0 ? "," : "") + this.newJsonRow(iterator.next()), charset);
+				read++;
+			}
+
+			response.flush(); // blocks while the client is not consuming
+
+			rows += read;
+
+			if (read < length)
+			{
+				break; // the provider has no more rows
+			}
+		}
+
+		this.write(response, "]}", charset);
+
+		this.onResponse(this.first, this.count, rows);
+	}
+
+	/**
+	 * Writes the text to the response, using the supplied charset
+	 *
+	 * @param response the {@link WebResponse}
+	 * @param text the text
+	 * @param charset the charset
+	 */
+	private void write(WebResponse response, String text, String charset)
+	{
+		try
+		{
+			final byte[] bytes = text.getBytes(charset);
+
+			response.write(bytes);
+			this.size += bytes.length;
+		}
+		catch (UnsupportedEncodingException e)
+		{
+			throw new WicketRuntimeException("Unable to render rows: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Gets the configured encoding, or the request's one as default, or UTF-8 as last resort
+	 *
+	 * @param requestCycle the {@link IRequestCycle}
+	 * @return the encoding
+	 */
+	private String getEncoding(IRequestCycle requestCycle)
+	{
+		if (Strings.isEmpty(this.encoding))
+		{
+			Charset charset = requestCycle.getRequest().getCharset();
+
+			return charset != null ? charset.name() : StandardCharsets.UTF_8.name();
+		}
+
+		return this.encoding;
+	}
+
+	// Events //
+
+	/**
+	 * Triggered when all rows have been streamed<br>
+	 * The number of bytes that have been streamed is available through {@link #getSize()}<br>
+	 * Implementations serving an {@link AjaxCallbackBehavior} should report the number of rows to the callback metrics (see {@link AjaxCallbackBehavior#setRowCount(long)}). The
+	 * size is counted as it is written, it can still be reported through {@link AjaxCallbackBehavior#setResponseSize(long)} for the case the response is written to another output.
+	 *
+	 * @param first the index of the first requested row
+	 * @param count the requested number of rows
+	 * @param rows the number of rows that have actually been sent
+	 */
+	protected abstract void onResponse(long first, long count, long rows);
+
+	// Factories //
+
+	/**
+	 * Gets a new JSON object from the bean
+	 *
+	 * @param bean T object
+	 * @return a new JSON object
+	 */
+	protected abstract JSONObject newJsonRow(T bean);
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.googlecode.wicket.kendo.ui.resource;
+
+import java.util.List;
+
+import org.apache.wicket.markup.head.CssHeaderItem;
+import org.apache.wicket.markup.head.HeaderItem;
+import org.apache.wicket.request.resource.CssResourceReference;
+import org.apache.wicket.request.resource.ResourceReference;
+import org.apache.wicket.util.lang.Args;
+
+/**
+ * Provides the resource reference of a Kendo UI theme stylesheet, which depends on a common stylesheet<br>
+ * The theme stylesheet only holds the theme-specific rules; declaring the dependency ensures the (shared) common stylesheet is always rendered first, and only once per page.
+ *
+ * @author Sebastien Briquet - sebfz1
+ */
+public class KendoThemeStyleSheetResourceReference extends CssResourceReference
+{
+	private static final long serialVersionUID = 1L;
+
+	private final ResourceReference common;
+
+	/**
+	 * Constructor
+	 *
+	 * @param scope the scope class
+	 * @param name the stylesheet name
+	 * @param common the common stylesheet {@link ResourceReference}
+	 */
+	public KendoThemeStyleSheetResourceReference(Class<?> scope, String name, ResourceReference common)
+	{
+		super(scope, name);
+
+		this.common = Args.notNull(common, "common");
+	}
+
+	/**
+	 * Gets the common stylesheet {@link ResourceReference}
+	 *
+	 * @return the {@link ResourceReference}
+	 */
+	public ResourceReference getCommonReference()
+	{
+		return this.common;
+	}
+
+	@Override
+	public List<HeaderItem> getDependencies()
+	{
+		List<HeaderItem> dependencies = super.getDependencies();
+		dependencies.add(CssHeaderItem.forReference(this.common));
+
+		return dependencies;
+	}
+}
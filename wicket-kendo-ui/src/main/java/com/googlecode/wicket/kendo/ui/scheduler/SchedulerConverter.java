@@ -22,6 +22,7 @@ import java.util.List;
 import com.github.openjson.JSONArray;
 import com.github.openjson.JSONObject;
 
+import com.googlecode.wicket.jquery.core.converter.JsonBinder;
 import com.googlecode.wicket.jquery.core.utils.DateUtils;
 import com.googlecode.wicket.jquery.core.utils.JsonUtils;
 import com.googlecode.wicket.kendo.ui.scheduler.resource.ResourceList;
@@ -105,6 +106,14 @@ public class SchedulerConverter implements ISchedulerConverter
 		event.setRecurrenceRule(object.optString("recurrenceRule"));
 		event.setRecurrenceException(object.optString("recurrenceException"));
 
+		// Properties of SchedulerEvent subclasses (allow-list) //
+		final String[] properties = this.getBoundProperties();
+
+		if (properties.length > 0)
+		{
+			binderOf(event).only(properties).bind(object, event, this.offset);
+		}
+
 		// Resources //
 		for (ResourceList list : lists)
 		{
@@ -124,6 +133,18 @@ public class SchedulerConverter implements ISchedulerConverter
 		return event;
 	}
 
+	/**
+	 * Gets the names of the additional properties to be bound from the client's {@link JSONObject}, typically properties of a {@link SchedulerEvent} subclass (see
+	 * {@link #newSchedulerEvent()})<br>
+	 * Values are coerced to the property types by the {@link JsonBinder}, using the converter's offset. Only listed properties are bound, the payload being sent by the client.
+	 * 
+	 * @return an empty array by default
+	 */
+	protected String[] getBoundProperties()
+	{
+		return new String[] {};
+	}
+
 	/**
 	 * Gets a new {@link SchedulerEvent}
 	 * 
@@ -133,4 +154,18 @@ public class SchedulerConverter implements ISchedulerConverter
 	{
 		return new SchedulerEvent();
 	}
+
+	// Helpers //
+
+	/**
+	 * Gets the {@link JsonBinder} of the runtime class of the event
+	 * 
+	 * @param event the {@link SchedulerEvent}
+	 * @return the {@link JsonBinder}
+	 */
+	@SuppressWarnings("unchecked")
+	private static JsonBinder<SchedulerEvent> binderOf(SchedulerEvent event)
+	{
+		return (JsonBinder<SchedulerEvent>) (JsonBinder<?>) JsonBinder.of(event.getClass());
+	}
 }
@@ -16,11 +16,15 @@
  */
 package com.googlecode.wicket.kendo.ui.utils;
 
-import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.Map;
+
+import org.apache.wicket.util.lang.Generics;
 
 /**
  * Utility class for Kendo UI datetime formats
@@ -37,6 +41,15 @@ public class KendoDateTimeUtils
 	static final String k_chars = "GyYMwWDdFdutHkKhmsfzZX"; // S > f, a > t, E > d
 	static final int chars_lenth = j_chars.length();
 
+	/** Time Zone formatter, immutable and thread-safe */
+	private static final DateTimeFormatter FORMATTER_TZ = DateTimeFormatter.ofPattern(PATTERN_TZ);
+
+	/** Max number of cached pattern translations */
+	private static final int CAPACITY = 256;
+
+	/** Cache of pattern translations, by java pattern */
+	private static final Map<String, String> PATTERNS = Generics.newConcurrentHashMap();
+
 	/**
 	 * Utility class
 	 */
@@ -69,12 +82,36 @@ public class KendoDateTimeUtils
 	}
 
 	/**
-	 * Converts a java datetime pattern to a kendo-ui datetime pattern
+	 * Converts a java datetime pattern to a kendo-ui datetime pattern<br>
+	 * Translations are cached, up to {@value #CAPACITY} distinct patterns
 	 *
 	 * @param pattern the java pattern
 	 * @return the kendo-ui datetime pattern
 	 */
 	public static String toPattern(String pattern)
+	{
+		String converted = PATTERNS.get(pattern);
+
+		if (converted == null)
+		{
+			converted = translate(pattern);
+
+			if (PATTERNS.size() < CAPACITY)
+			{
+				PATTERNS.put(pattern, converted);
+			}
+		}
+
+		return converted;
+	}
+
+	/**
+	 * Translates a java datetime pattern to a kendo-ui datetime pattern
+	 *
+	 * @param pattern the java pattern
+	 * @return the kendo-ui datetime pattern
+	 */
+	private static String translate(String pattern)
 	{
 		String converted = pattern;
 
@@ -112,7 +149,7 @@ public class KendoDateTimeUtils
 	 */
 	public static String toString(Date date)
 	{
-		return new SimpleDateFormat(PATTERN_TZ).format(date);
+		return FORMATTER_TZ.format(Instant.ofEpochMilli(date.getTime()).atZone(ZoneId.systemDefault())); // java.sql.Date does not support #toInstant()
 	}
 
 	/**
@@ -16,9 +16,12 @@
  */
 package com.googlecode.wicket.kendo.ui.widget.editor;
 
+import java.util.Map;
+
 import org.apache.wicket.markup.html.form.TextArea;
 import org.apache.wicket.model.IModel;
 import org.apache.wicket.util.lang.Args;
+import org.apache.wicket.util.lang.Generics;
 import org.owasp.html.HtmlPolicyBuilder;
 import org.owasp.html.PolicyFactory;
 
@@ -38,6 +41,20 @@ public abstract class AbstractEditor<T> extends TextArea<T> implements IJQueryWi
 	private static final long serialVersionUID = 1L;
 	public static final String METHOD = "kendoEditor";
 
+	/** the default policy; a {@link PolicyFactory} is immutable and thread-safe */
+	private static final PolicyFactory DEFAULT_POLICY = new HtmlPolicyBuilder() // lf
+			.allowStyling() // lf
+			.allowCommonBlockElements() // lf
+			.allowCommonInlineFormattingElements() // lf
+			.allowElements("a").allowAttributes("href", "target").onElements("a") // lf
+			.allowElements("table", "tbody", "thead", "th", "tr", "td") // lf
+			.allowAttributes("size").onElements("font") // lf
+			.allowAttributes("class", "style").globally() // lf
+			.toFactory();
+
+	/** shared policies, by policy key (see {@link #getPolicyKey()}) */
+	private static final Map<Object, PolicyFactory> POLICIES = Generics.newConcurrentHashMap();
+
 	protected final Options options;
 
 	/**
@@ -88,6 +105,38 @@ public abstract class AbstractEditor<T> extends TextArea<T> implements IJQueryWi
 		this.options = Args.notNull(options, "options");
 	}
 
+	// Properties //
+
+	/**
+	 * Gets the key under which the {@link PolicyFactory} returned by {@link #newPolicyFactory()} is shared by all instances<br>
+	 * Sharing is opt-in: the key should identify the policy itself (ie: a {@code String} id), and must not be supplied if {@link #newPolicyFactory()} depends on the component
+	 * state.
+	 *
+	 * @return {@code null} by default, meaning the policy is not shared
+	 */
+	protected Object getPolicyKey()
+	{
+		return null;
+	}
+
+	/**
+	 * Gets the {@link PolicyFactory} to sanitize editor input<br>
+	 * If {@link #getPolicyKey()} supplies a key, the factory is built once per key by {@link #newPolicyFactory()}, otherwise {@link #newPolicyFactory()} is called each time
+	 *
+	 * @return the {@code PolicyFactory}
+	 */
+	protected final PolicyFactory getPolicyFactory()
+	{
+		final Object key = this.getPolicyKey();
+
+		if (key != null)
+		{
+			return POLICIES.computeIfAbsent(key, k -> this.newPolicyFactory());
+		}
+
+		return this.newPolicyFactory();
+	}
+
 	// Methods //
 
 	// Events //
@@ -124,20 +173,13 @@ public abstract class AbstractEditor<T> extends TextArea<T> implements IJQueryWi
 	// Factories //
 
 	/**
-	 * Gets a new {@link PolicyFactory} to sanitize editor input
+	 * Gets a new {@link PolicyFactory} to sanitize editor input<br>
+	 * This is called on each conversion, unless the policy is shared (see {@link #getPolicyKey()})
 	 * 
-	 * @return a new {@code PolicyFactory}
+	 * @return the default (immutable) {@code PolicyFactory} by default
 	 */
 	protected PolicyFactory newPolicyFactory()
 	{
-		return new HtmlPolicyBuilder() // lf
-				.allowStyling() // lf
-				.allowCommonBlockElements() // lf
-				.allowCommonInlineFormattingElements() // lf
-				.allowElements("a").allowAttributes("href", "target").onElements("a") // lf
-				.allowElements("table", "tbody", "thead", "th", "tr", "td") // lf
-				.allowAttributes("size").onElements("font") // lf
-				.allowAttributes("class", "style").globally() // lf
-				.toFactory();
+		return DEFAULT_POLICY;
 	}
 }
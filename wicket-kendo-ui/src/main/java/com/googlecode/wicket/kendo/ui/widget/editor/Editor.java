@@ -83,7 +83,7 @@ public class Editor extends AbstractEditor<String> implements IJQueryWidget // N
 	{
 		super.convertInput();
 
-		final PolicyFactory policy = this.newPolicyFactory();
+		final PolicyFactory policy = this.getPolicyFactory();
 		final String input = this.getConvertedInput();
 
 		this.setConvertedInput(policy.sanitize(input));
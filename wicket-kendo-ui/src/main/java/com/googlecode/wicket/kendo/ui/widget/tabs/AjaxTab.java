@@ -16,8 +16,12 @@
  */
 package com.googlecode.wicket.kendo.ui.widget.tabs;
 
+import java.io.Serializable;
+import java.util.Objects;
+
 import org.apache.wicket.Component;
 import org.apache.wicket.ajax.AjaxRequestTarget;
+import org.apache.wicket.core.request.handler.IPartialPageRequestHandler;
 import org.apache.wicket.extensions.markup.html.tabs.AbstractTab;
 import org.apache.wicket.extensions.markup.html.tabs.ITab;
 import org.apache.wicket.markup.html.WebMarkupContainer;
@@ -42,6 +46,9 @@ public abstract class AjaxTab extends AbstractTab
 	private LoadingPanel panel = null;
 	private byte state = STATE_INIT;
 
+	/** the version of the loaded panel */
+	private Serializable version = null;
+
 	/**
 	 * Constructor
 	 *
@@ -67,6 +74,27 @@ public abstract class AjaxTab extends AbstractTab
 		return this.panel;
 	}
 
+	/**
+	 * Gets the version of the model the lazy panel is built upon<br>
+	 * When the version differs from the one of the loaded panel, the lazy panel is rebuilt the next time the tab is loaded.
+	 *
+	 * @return {@code null} by default, meaning the loaded panel is kept as-is
+	 */
+	protected Serializable getVersion()
+	{
+		return null;
+	}
+
+	/**
+	 * Indicates whether the lazy panel is loaded
+	 *
+	 * @return {@code true} or {@code false}
+	 */
+	public boolean isLoaded()
+	{
+		return this.state == STATE_LOADED;
+	}
+
 	/**
 	 * Get the {@link WebMarkupContainer} that will be lazy loaded
 	 *
@@ -88,7 +116,7 @@ public abstract class AjaxTab extends AbstractTab
 	/**
 	 * Replaces the loading panel's placeholder component (indicator) by the lazy-loaded component.<br>
 	 * <br>
-	 * <b>Warning: </b> should be called only once!
+	 * <b>Warning: </b> should be called only once, unless the tab has been unloaded!
 	 *
 	 * @return the lazy-loaded component
 	 */
@@ -105,15 +133,50 @@ public abstract class AjaxTab extends AbstractTab
 	 */
 	public boolean load(AjaxRequestTarget target)
 	{
+		if (this.state == STATE_LOADED && !Objects.equals(this.version, this.getVersion()))
+		{
+			this.unload(); // the loaded panel is outdated
+		}
+
 		boolean load = this.state == STATE_LOAD;
 
 		if (load)
 		{
 			target.add(this.replaceComponent());
 			this.state = STATE_LOADED;
+			this.version = this.getVersion();
 			// this.getPage().dirty();
 		}
 
 		return load;
 	}
+
+	/**
+	 * Unloads the lazy component, if loaded, so its memory can be reclaimed.<br>
+	 * The loading panel's placeholder component is restored and the lazy component will be rebuilt on next {@link #load(AjaxRequestTarget)}
+	 */
+	public void unload()
+	{
+		if (this.state == STATE_LOADED)
+		{
+			this.panel.get(LoadingPanel.LAZY_LOAD_COMPONENT_ID).replaceWith(this.panel.getPlaceholderComponent()); // the placeholder takes over the markup id
+			this.state = STATE_LOAD;
+			this.version = null;
+		}
+	}
+
+	/**
+	 * Unloads the lazy component, if loaded, and renders the placeholder component so the client side no longer holds the unloaded content
+	 *
+	 * @param handler the {@link IPartialPageRequestHandler}
+	 * @see #unload()
+	 */
+	public void unload(IPartialPageRequestHandler handler)
+	{
+		if (this.state == STATE_LOADED)
+		{
+			this.unload();
+			handler.add(this.panel.getPlaceholderComponent());
+		}
+	}
 }
@@ -206,6 +206,27 @@ public class TabbedPanel extends JQueryGenericPanel<List<ITab>> implements ITabs
 		return index;
 	}
 
+	/**
+	 * Gets the {@link PrefetchPolicy} of the {@link AjaxTab}{@code s}
+	 *
+	 * @return {@link PrefetchPolicy#NONE} by default
+	 */
+	protected PrefetchPolicy getPrefetchPolicy()
+	{
+		return PrefetchPolicy.NONE;
+	}
+
+	/**
+	 * Gets the maximum number of {@link AjaxTab}{@code s} that can be loaded at once<br>
+	 * When exceeded, the least recently selected (or prefetched) {@link AjaxTab} is unloaded.
+	 *
+	 * @return {@link Integer#MAX_VALUE} by default
+	 */
+	protected int getMaxLoadedTabs()
+	{
+		return Integer.MAX_VALUE;
+	}
+
 	@Override
 	public boolean isSelectEventEnabled()
 	{
@@ -345,6 +366,18 @@ public class TabbedPanel extends JQueryGenericPanel<List<ITab>> implements ITabs
 			{
 				return TabbedPanel.this.getModelObject();
 			}
+
+			@Override
+			protected PrefetchPolicy getPrefetchPolicy()
+			{
+				return TabbedPanel.this.getPrefetchPolicy();
+			}
+
+			@Override
+			protected int getMaxLoadedTabs()
+			{
+				return TabbedPanel.this.getMaxLoadedTabs();
+			}
 		};
 	}
 }
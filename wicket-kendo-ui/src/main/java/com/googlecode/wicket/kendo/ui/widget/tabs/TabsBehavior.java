@@ -17,6 +17,7 @@
 package com.googlecode.wicket.kendo.ui.widget.tabs;
 
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 import org.apache.wicket.Component;
@@ -55,6 +56,13 @@ public abstract class TabsBehavior extends KendoUIBehavior implements IJQueryAja
 	private JQueryAjaxBehavior onSelectAjaxBehavior = null;
 	private JQueryAjaxBehavior onShowAjaxBehavior = null;
 	private JQueryAjaxBehavior onActivateAjaxBehavior = null;
+	private JQueryAjaxBehavior onPrefetchAjaxBehavior = null;
+
+	/** loaded {@link AjaxTab}{@code s}, least recently used first */
+	private final List<AjaxTab> loaded = Generics.newArrayList();
+
+	/** the active tab, which is never unloaded */
+	private ITab active = null;
 
 	/**
 	 * Constructor
@@ -111,6 +119,27 @@ public abstract class TabsBehavior extends KendoUIBehavior implements IJQueryAja
 		return Collections.unmodifiableList(list);
 	}
 
+	/**
+	 * Gets the {@link PrefetchPolicy} of the {@link AjaxTab}{@code s}
+	 *
+	 * @return {@link PrefetchPolicy#NONE} by default
+	 */
+	protected PrefetchPolicy getPrefetchPolicy()
+	{
+		return PrefetchPolicy.NONE;
+	}
+
+	/**
+	 * Gets the maximum number of {@link AjaxTab}{@code s} that can be loaded at once<br>
+	 * When exceeded, the least recently selected (or prefetched) {@link AjaxTab} is unloaded.
+	 *
+	 * @return {@link Integer#MAX_VALUE} by default
+	 */
+	protected int getMaxLoadedTabs()
+	{
+		return Integer.MAX_VALUE;
+	}
+
 	// Methods //
 
 	@Override
@@ -135,6 +164,12 @@ public abstract class TabsBehavior extends KendoUIBehavior implements IJQueryAja
 			this.onActivateAjaxBehavior = this.newOnActivateAjaxBehavior(this);
 			component.add(this.onActivateAjaxBehavior);
 		}
+
+		if (this.getPrefetchPolicy() != PrefetchPolicy.NONE)
+		{
+			this.onPrefetchAjaxBehavior = this.newOnPrefetchAjaxBehavior(this);
+			component.add(this.onPrefetchAjaxBehavior);
+		}
 	}
 
 	@Override
@@ -144,6 +179,69 @@ public abstract class TabsBehavior extends KendoUIBehavior implements IJQueryAja
 
 		// selects (& expands) the active tab (not a default behavior)
 		this.renderOnDomReadyScript(String.format("%s.select(%d);", this.widget(), this.tabIndex), response);
+
+		if (this.onPrefetchAjaxBehavior != null)
+		{
+			this.renderOnDomReadyScript(this.getPrefetchStatement(this.onPrefetchAjaxBehavior.getCallbackFunction()), response);
+		}
+	}
+
+	/**
+	 * Loads the {@link AjaxTab}, and unloads the least recently used ones if the {@link #getMaxLoadedTabs()} is exceeded<br>
+	 * The active tab is never unloaded, and unloaded tabs are rendered back to their loading indicator
+	 *
+	 * @param tab the {@link AjaxTab}
+	 * @param target the {@link AjaxRequestTarget}
+	 */
+	protected void load(AjaxTab tab, AjaxRequestTarget target)
+	{
+		tab.load(target);
+
+		this.loaded.retainAll(this.getTabs()); // tabs may have been reloaded
+		this.loaded.remove(tab);
+		this.loaded.add(tab);
+
+		for (Iterator<AjaxTab> iterator = this.loaded.iterator(); iterator.hasNext() && this.loaded.size() > Math.max(1, this.getMaxLoadedTabs());)
+		{
+			AjaxTab lru = iterator.next();
+
+			if (lru != this.active) // the content of the active tab is displayed
+			{
+				iterator.remove();
+				lru.unload(target);
+			}
+		}
+	}
+
+	/**
+	 * Gets the javascript statement that triggers the prefetch, according to the {@link PrefetchPolicy}
+	 *
+	 * @param callback the prefetch callback function, taking the tab index as argument
+	 * @return the javascript statement
+	 */
+	private String getPrefetchStatement(String callback)
+	{
+		final StringBuilder builder = new StringBuilder("(function($w, callback) { ");
+		builder.append("var done = {}; ");
+		builder.append("var prefetch = function(index) { if (index > -1 && !done[index]) { done[index] = true; callback(index); } }; ");
+
+		switch (this.getPrefetchPolicy())
+		{
+		case IDLE:
+			builder.append("var idle = window.requestIdleCallback || function(fn) { return setTimeout(fn, 1); }; ");
+			builder.append("var adjacent = function() { var index = $w.select().index(); idle(function() { prefetch(index - 1); prefetch(index + 1); }); }; ");
+			builder.append("$w.bind('activate', adjacent); adjacent(); ");
+			break;
+
+		case HOVER:
+			builder.append("$w.tabGroup.children('li').on('mouseenter', function() { prefetch(jQuery(this).index()); }); ");
+			break;
+
+		default:
+			break;
+		}
+
+		return builder.append("})(").append(this.widget()).append(", ").append(callback).append(");").toString();
 	}
 
 	/**
@@ -194,9 +292,14 @@ public abstract class TabsBehavior extends KendoUIBehavior implements IJQueryAja
 			{
 				ITab tab = tabs.get(index);
 
+				if (!(event instanceof PrefetchEvent))
+				{
+					this.active = tab;
+				}
+
 				if (tab instanceof AjaxTab)
 				{
-					((AjaxTab) tab).load(target);
+					this.load((AjaxTab) tab, target); // also handles PrefetchEvent
 				}
 
 				if (event instanceof SelectEvent)
@@ -252,6 +355,18 @@ public abstract class TabsBehavior extends KendoUIBehavior implements IJQueryAja
 		return new OnActivateAjaxBehavior(source);
 	}
 
+	/**
+	 * Gets a new {@link JQueryAjaxBehavior} that will be called to prefetch an {@link AjaxTab}
+	 *
+	 * @param source the {@link IJQueryAjaxAware}
+	 * @return a new {@code OnPrefetchAjaxBehavior} by default
+	 * @see #getPrefetchPolicy()
+	 */
+	protected JQueryAjaxBehavior newOnPrefetchAjaxBehavior(IJQueryAjaxAware source)
+	{
+		return new OnPrefetchAjaxBehavior(source);
+	}
+
 	// Ajax classes //
 
 	/**
@@ -330,6 +445,31 @@ public abstract class TabsBehavior extends KendoUIBehavior implements IJQueryAja
 		}
 	}
 
+	/**
+	 * Provides a {@link JQueryAjaxBehavior} that aims to be called to prefetch an {@link AjaxTab}
+	 */
+	protected static class OnPrefetchAjaxBehavior extends TabAjaxBehavior
+	{
+		private static final long serialVersionUID = 1L;
+
+		public OnPrefetchAjaxBehavior(IJQueryAjaxAware source)
+		{
+			super(source);
+		}
+
+		@Override
+		protected CallbackParameter[] getCallbackParameters()
+		{
+			return new CallbackParameter[] { CallbackParameter.explicit("index") };
+		}
+
+		@Override
+		protected JQueryEvent newEvent()
+		{
+			return new PrefetchEvent();
+		}
+	}
+
 	// Event objects //
 
 	/**
@@ -380,4 +520,11 @@ public abstract class TabsBehavior extends KendoUIBehavior implements IJQueryAja
 	protected static class ActivateEvent extends TabEvent
 	{
 	}
+
+	/**
+	 * Provides an event object that will be broadcasted by the {@link OnPrefetchAjaxBehavior} callback
+	 */
+	protected static class PrefetchEvent extends TabEvent
+	{
+	}
 }
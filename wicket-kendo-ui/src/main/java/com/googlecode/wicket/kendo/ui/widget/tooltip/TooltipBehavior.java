@@ -21,12 +21,15 @@ import org.apache.wicket.core.util.string.ComponentRenderer;
 import org.apache.wicket.model.IModel;
 import org.apache.wicket.model.Model;
 
+import com.github.openjson.JSONObject;
 import com.googlecode.wicket.jquery.core.IJQueryWidget.JQueryWidget;
 import com.googlecode.wicket.jquery.core.Options;
+import com.googlecode.wicket.jquery.core.behavior.ContentModelBehavior;
 import com.googlecode.wicket.kendo.ui.KendoUIBehavior;
 
 /**
- * Provides a {@value #METHOD} behavior
+ * Provides a {@value #METHOD} behavior<br>
+ * The content model can also be read on demand, see {@link #isLazy()}
  *
  * @since 6.20.0
  */
@@ -54,6 +57,9 @@ public class TooltipBehavior extends KendoUIBehavior
 
 	private final IModel<String> model;
 
+	/** The content callback, if the tooltip is lazy */
+	private ContentModelBehavior contentBehavior = null;
+
 	/**
 	 * Constructor<br>
 	 * The {@code title} attribute will serve as tooltip content
@@ -125,18 +131,78 @@ public class TooltipBehavior extends KendoUIBehavior
 
 		// seems that kendo-ui tooltip only apply to the component it is bound to (applying to document doesn't have any effect)
 		this.selector = JQueryWidget.getSelector(component);
+
+		if (this.isLazy())
+		{
+			this.contentBehavior = this.newContentBehavior();
+			component.add(this.contentBehavior);
+		}
 	}
 
+	// Properties //
+
+	/**
+	 * Indicates whether the content model is read on demand<br>
+	 * If {@code true}, the content is loaded by a callback the first time the tooltip shows, and then cached per target on the client side (see also {@link #getContentKey()})
+	 *
+	 * @return {@code false} by default
+	 */
+	protected boolean isLazy()
+	{
+		return false;
+	}
+
+	/**
+	 * Gets the key identifying the current content, ie: the id of the model object<br>
+	 * If {@link #isLazy()} and a key is supplied, the content is also cached on the server side, as long as the key does not change
+	 *
+	 * @return {@code null} by default
+	 */
+	protected Object getContentKey()
+	{
+		return null;
+	}
+
+	// Events //
+
 	@Override
 	public void onConfigure(Component component)
 	{
-		String content = this.model.getObject();
-
-		if (content != null)
+		if (this.contentBehavior != null)
 		{
-			this.setOption("content", Options.asString(content));
+			this.setOption("content", String.format("function(e) { var $t = e.target, c = $t.data('wicket-tooltip-content'); if (c !== undefined) { return c; } jQuery.get(%s, function(data) { $t.data('wicket-tooltip-content', data); e.sender.refresh(); }); return ''; }", JSONObject.quote(this.contentBehavior.getCallbackUrl().toString())));
+		}
+		else
+		{
+			String content = this.model.getObject();
+
+			if (content != null)
+			{
+				this.setOption("content", Options.asString(content));
+			}
 		}
 
 		super.onConfigure(component);
 	}
+
+	// Factories //
+
+	/**
+	 * Gets a new {@link ContentModelBehavior} that reads the content model on demand
+	 *
+	 * @return a new {@code ContentModelBehavior}
+	 */
+	protected ContentModelBehavior newContentBehavior()
+	{
+		return new ContentModelBehavior(this.model) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected Object getContentKey()
+			{
+				return TooltipBehavior.this.getContentKey();
+			}
+		};
+	}
 }
@@ -26,6 +26,7 @@ import org.apache.wicket.util.lang.Args;
 import com.googlecode.wicket.jquery.core.IJQueryWidget;
 import com.googlecode.wicket.jquery.core.JQueryBehavior;
 import com.googlecode.wicket.jquery.core.Options;
+import com.googlecode.wicket.jquery.core.behavior.DeferredContentBehavior;
 import com.googlecode.wicket.kendo.ui.KendoUIBehavior;
 
 /**
@@ -56,6 +57,9 @@ public abstract class AbstractWindow<T> extends GenericPanel<T> implements IJQue
 	/** widget behavior */
 	private WindowBehavior widgetBehavior = null;
 
+	/** the deferred content behavior, if the content is deferred */
+	private DeferredContentBehavior contentBehavior = null;
+
 	/**
 	 * Constructor
 	 *
@@ -174,6 +178,11 @@ public abstract class AbstractWindow<T> extends GenericPanel<T> implements IJQue
 	 */
 	public final void open(IPartialPageRequestHandler handler)
 	{
+		if (this.contentBehavior != null)
+		{
+			this.contentBehavior.load(handler);
+		}
+
 		this.onOpen(handler);
 
 		if (this.widgetBehavior != null)
@@ -195,6 +204,11 @@ public abstract class AbstractWindow<T> extends GenericPanel<T> implements IJQue
 		}
 
 		this.onClose(handler);
+
+		if (this.contentBehavior != null && this.isContentUnloadedOnClose())
+		{
+			this.contentBehavior.unload(handler);
+		}
 	}
 
 	// Properties //
@@ -308,6 +322,29 @@ public abstract class AbstractWindow<T> extends GenericPanel<T> implements IJQue
 		return false;
 	}
 
+	/**
+	 * Indicates whether the window content is deferred<br>
+	 * If {@code true}, the content is only rendered as placeholders with the page, and is rendered through ajax the first time the window opens
+	 *
+	 * @return {@code false} by default
+	 * @see DeferredContentBehavior
+	 */
+	protected boolean isContentDeferred()
+	{
+		return false;
+	}
+
+	/**
+	 * Indicates whether the deferred content is unloaded - rendered back as placeholders - when the window is closed on the server side
+	 *
+	 * @return {@code false} by default
+	 * @see #isContentDeferred()
+	 */
+	protected boolean isContentUnloadedOnClose()
+	{
+		return false;
+	}
+
 	@Override
 	public boolean isActionEventEnabled()
 	{
@@ -329,6 +366,12 @@ public abstract class AbstractWindow<T> extends GenericPanel<T> implements IJQue
 
 		this.widgetBehavior = (WindowBehavior) JQueryWidget.newWidgetBehavior(this);
 		this.add(this.widgetBehavior);
+
+		if (this.isContentDeferred())
+		{
+			this.contentBehavior = new DeferredContentBehavior();
+			this.add(this.contentBehavior);
+		}
 	}
 
 	@Override